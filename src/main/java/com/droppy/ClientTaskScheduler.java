@@ -0,0 +1,93 @@
+package com.droppy;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cooperative scheduler for long client-thread jobs. Each job is a step function that does
+ * one small chunk of work and returns true once it has finished; steps are run on every
+ * game tick until that tick's time budget is used up, so no single tick stalls a frame.
+ * Low priority jobs only get whatever budget is left once the normal queue is empty.
+ *
+ * Only work that has to touch client state belongs here: clog page scrapes, loot matching
+ * and prewarming. Reading the Collection Log plugin file needs no client state, so it is
+ * parsed and applied on the executor (see CollectionLogImporter) instead.
+ */
+@Slf4j
+public class ClientTaskScheduler
+{
+    private static final long TICK_BUDGET_NANOS = TimeUnit.MICROSECONDS.toNanos(1500);
+
+    private final Deque<Task> tasks = new ArrayDeque<>();
+    private final Deque<Task> lowPriorityTasks = new ArrayDeque<>();
+
+    // Client thread only
+    public void submit(String name, BooleanSupplier step)
+    {
+        tasks.addLast(new Task(name, step));
+    }
+
+    // Client thread only; for speculative work such as cache warming
+    public void submitLowPriority(String name, BooleanSupplier step)
+    {
+        lowPriorityTasks.addLast(new Task(name, step));
+    }
+
+    // Client thread only; call once per game tick
+    public void runSlice()
+    {
+        if (isIdle())
+        {
+            return;
+        }
+
+        long deadline = System.nanoTime() + TICK_BUDGET_NANOS;
+        do
+        {
+            Deque<Task> queue = tasks.isEmpty() ? lowPriorityTasks : tasks;
+            Task task = queue.peekFirst();
+            boolean done;
+            try
+            {
+                done = task.step.getAsBoolean();
+            }
+            catch (Exception e)
+            {
+                log.warn("Scheduled task {} failed: {}", task.name, e.getMessage());
+                done = true;
+            }
+
+            if (done)
+            {
+                queue.pollFirst();
+            }
+        }
+        while (!isIdle() && System.nanoTime() < deadline);
+    }
+
+    public boolean isIdle()
+    {
+        return tasks.isEmpty() && lowPriorityTasks.isEmpty();
+    }
+
+    public void clear()
+    {
+        tasks.clear();
+        lowPriorityTasks.clear();
+    }
+
+    private static class Task
+    {
+        private final String name;
+        private final BooleanSupplier step;
+
+        private Task(String name, BooleanSupplier step)
+        {
+            this.name = name;
+            this.step = step;
+        }
+    }
+}
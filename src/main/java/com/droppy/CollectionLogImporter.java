@@ -1,12 +1,25 @@
 package com.droppy;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Map;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -15,17 +28,27 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CollectionLogImporter
 {
-    private final Gson gson;
+    private static final long WATCH_POLL_SECONDS = 2;
+
     private final PlayerDataManager playerDataManager;
+    private final ScheduledExecutorService executor;
+
+    // Bumped on reset so imports still running for the previous profile are discarded.
+    // Not guarded by the monitor, so a reset never waits on a parse.
+    private final AtomicLong session = new AtomicLong();
 
     private boolean importedThisSession = false;
+    private WatchService watchService;
+    private ScheduledFuture<?> watchFuture;
 
-    public CollectionLogImporter(Gson gson, PlayerDataManager playerDataManager)
+    public CollectionLogImporter(PlayerDataManager playerDataManager, ScheduledExecutorService executor)
     {
-        this.gson = gson;
         this.playerDataManager = playerDataManager;
+        this.executor = executor;
     }
 
+    // Parses on the executor and applies the result in one batch, then keeps watching the
+    // file for the rest of the session.
     public void tryImport(String username)
     {
         if (importedThisSession || username == null || username.isEmpty())
@@ -33,137 +56,336 @@ public class CollectionLogImporter
             return;
         }
 
-        try
+        importedThisSession = true;
+        long importSession = session.get();
+        executor.execute(() ->
         {
             Path dataFile = findDataFile(username);
-            if (dataFile == null || !Files.exists(dataFile))
+            if (dataFile == null)
             {
                 log.debug("No Collection Log plugin data found for {}", username);
                 return;
             }
 
-            String json = Files.readString(dataFile);
-            JsonObject root = gson.fromJson(json, JsonObject.class);
-            if (root == null || !root.has("tabs"))
+            runImport(dataFile, importSession);
+            startWatching(dataFile, importSession);
+        });
+    }
+
+    private void runImport(Path dataFile, long importSession)
+    {
+        try
+        {
+            importFile(dataFile, importSession);
+        }
+        catch (Exception e)
+        {
+            // Most likely caught the other plugin mid-write; the next change event retries
+            log.debug("Could not import Collection Log plugin data: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void startWatching(Path dataFile, long importSession)
+    {
+        if (importSession != session.get())
+        {
+            return;
+        }
+
+        stopWatching();
+        try
+        {
+            watchService = dataFile.getFileSystem().newWatchService();
+            dataFile.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        catch (IOException e)
+        {
+            log.debug("Could not watch Collection Log plugin data: {}", e.getMessage());
+            return;
+        }
+
+        WatchService service = watchService;
+        watchFuture = executor.scheduleWithFixedDelay(() ->
+        {
+            WatchKey key = service.poll();
+            if (key == null)
             {
                 return;
             }
 
-            int itemsImported = 0;
-            int kcImported = 0;
-            int pagesImported = 0;
+            boolean changed = false;
+            for (WatchEvent<?> event : key.pollEvents())
+            {
+                if (dataFile.getFileName().equals(event.context()))
+                {
+                    changed = true;
+                }
+            }
+            key.reset();
+
+            if (changed)
+            {
+                runImport(dataFile, importSession);
+            }
+        }, WATCH_POLL_SECONDS, WATCH_POLL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public synchronized void stopWatching()
+    {
+        if (watchFuture != null)
+        {
+            watchFuture.cancel(false);
+            watchFuture = null;
+        }
+
+        if (watchService != null)
+        {
+            try
+            {
+                watchService.close();
+            }
+            catch (IOException ignored)
+            {
+            }
+            watchService = null;
+        }
+    }
+
+    // Reads and hashes without the monitor; only the diff and apply hold it
+    private boolean importFile(Path dataFile, long importSession) throws IOException
+    {
+        if (importSession != session.get() || !Files.exists(dataFile))
+        {
+            return false;
+        }
+
+        // Size + mtime is enough to tell the file hasn't been rewritten since the last import
+        BasicFileAttributes attributes = Files.readAttributes(dataFile, BasicFileAttributes.class);
+        String stamp = attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        if (stamp.equals(playerDataManager.getClogImportStamp()))
+        {
+            log.debug("Collection Log plugin data unchanged since last import");
+            return false;
+        }
+
+        List<Page> pages;
+        try (Reader reader = Files.newBufferedReader(dataFile, StandardCharsets.UTF_8);
+             JsonReader json = new JsonReader(reader))
+        {
+            pages = readPages(json);
+        }
+
+        // A change event still parses the whole file (the JSON can't be read page by page), but
+        // only pages whose hash differs from the last import are applied. The hashes are saved
+        // with the stamp, so an unchanged file at login still diffs against the right pages.
+        List<Page> changedPages = new ArrayList<>();
+        int changes;
+        synchronized (this)
+        {
+            if (importSession != session.get())
+            {
+                return false;
+            }
+
+            for (Page page : pages)
+            {
+                Long previous = playerDataManager.getClogPageHash(page.getName());
+                if (previous == null || previous != page.getHash())
+                {
+                    changedPages.add(page);
+                }
+            }
+            changes = playerDataManager.importCollectionLog(changedPages, stamp);
+        }
+
+        if (importSession != session.get())
+        {
+            return false;
+        }
+
+        playerDataManager.savePlayerData();
+        if (changes > 0)
+        {
+            log.info("Imported from Collection Log plugin: {} changes across {} of {} pages",
+                changes, changedPages.size(), pages.size());
+            return true;
+        }
+
+        log.debug("Collection Log plugin data found but no new data to import");
+        return false;
+    }
+
+    // { "tabs": { "<tab>": { "<page>": { "items": [...], "killCounts": [...], "isUpdated": bool } } } }
+    private static List<Page> readPages(JsonReader reader) throws IOException
+    {
+        List<Page> pages = new ArrayList<>();
 
-            JsonObject tabs = root.getAsJsonObject("tabs");
-            for (Map.Entry<String, JsonElement> tabEntry : tabs.entrySet())
+        reader.beginObject();
+        while (reader.hasNext())
+        {
+            if (!reader.nextName().equals("tabs") || reader.peek() != JsonToken.BEGIN_OBJECT)
             {
-                if (!tabEntry.getValue().isJsonObject())
+                reader.skipValue();
+                continue;
+            }
+
+            reader.beginObject();
+            while (reader.hasNext())
+            {
+                reader.nextName();
+                if (reader.peek() != JsonToken.BEGIN_OBJECT)
                 {
+                    reader.skipValue();
                     continue;
                 }
 
-                JsonObject pages = tabEntry.getValue().getAsJsonObject();
-                for (Map.Entry<String, JsonElement> pageEntry : pages.entrySet())
+                reader.beginObject();
+                while (reader.hasNext())
                 {
-                    if (!pageEntry.getValue().isJsonObject())
+                    String pageName = reader.nextName();
+                    if (reader.peek() != JsonToken.BEGIN_OBJECT)
                     {
+                        reader.skipValue();
                         continue;
                     }
 
-                    String pageName = pageEntry.getKey();
-                    JsonObject page = pageEntry.getValue().getAsJsonObject();
-
+                    Page page = readPage(pageName, reader);
                     // Skip pages that haven't been opened in-game
-                    if (!page.has("isUpdated") || !page.get("isUpdated").getAsBoolean())
+                    if (page != null)
                     {
-                        continue;
+                        pages.add(page);
                     }
+                }
+                reader.endObject();
+            }
+            reader.endObject();
+        }
+        reader.endObject();
 
-                    if (page.has("items") && page.get("items").isJsonArray())
-                    {
-                        for (JsonElement itemEl : page.getAsJsonArray("items"))
-                        {
-                            if (!itemEl.isJsonObject())
-                            {
-                                continue;
-                            }
-
-                            JsonObject item = itemEl.getAsJsonObject();
-                            boolean obtained = item.has("obtained")
-                                && item.get("obtained").getAsBoolean();
-                            String itemName = item.has("name")
-                                ? item.get("name").getAsString() : null;
-                            int itemId = item.has("id")
-                                ? item.get("id").getAsInt() : -1;
-
-                            if (itemName == null || itemName.isEmpty())
-                            {
-                                continue;
-                            }
-
-                            if (itemId > 0)
-                            {
-                                playerDataManager.addClogItem(itemName, itemId);
-                            }
-
-                            if (obtained && !playerDataManager.hasItem(itemName))
-                            {
-                                playerDataManager.markItemObtainedFromSync(itemName);
-                                itemsImported++;
-                            }
-                        }
-                    }
+        return pages;
+    }
+
+    private static Page readPage(String pageName, JsonReader reader) throws IOException
+    {
+        List<Item> items = new ArrayList<>();
+        int killCount = 0;
+        boolean updated = false;
+        long hash = pageName.hashCode();
 
-                    if (page.has("killCounts") && page.get("killCounts").isJsonArray())
+        reader.beginObject();
+        while (reader.hasNext())
+        {
+            String field = reader.nextName();
+            if (field.equals("isUpdated") && reader.peek() == JsonToken.BOOLEAN)
+            {
+                updated = reader.nextBoolean();
+            }
+            else if (field.equals("items") && reader.peek() == JsonToken.BEGIN_ARRAY)
+            {
+                reader.beginArray();
+                while (reader.hasNext())
+                {
+                    Item item = readItem(reader);
+                    if (item != null)
                     {
-                        for (JsonElement kcEl : page.getAsJsonArray("killCounts"))
-                        {
-                            if (!kcEl.isJsonObject())
-                            {
-                                continue;
-                            }
-
-                            JsonObject kc = kcEl.getAsJsonObject();
-                            int amount = kc.has("amount") ? kc.get("amount").getAsInt() : 0;
-
-                            if (amount > 0)
-                            {
-                                int currentKc = playerDataManager.getKillCount(pageName);
-                                if (amount > currentKc)
-                                {
-                                    playerDataManager.setKillCount(pageName, amount);
-                                    kcImported++;
-                                }
-                            }
-                        }
+                        items.add(item);
+                        hash = hash * 31 + item.getName().hashCode();
+                        hash = hash * 31 + item.getId();
+                        hash = hash * 31 + (item.isObtained() ? 1 : 0);
                     }
-
-                    playerDataManager.markPageSynced(pageName);
-                    pagesImported++;
                 }
+                reader.endArray();
+            }
+            else if (field.equals("killCounts") && reader.peek() == JsonToken.BEGIN_ARRAY)
+            {
+                reader.beginArray();
+                while (reader.hasNext())
+                {
+                    killCount = Math.max(killCount, readKillCount(reader));
+                }
+                reader.endArray();
             }
+            else
+            {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        hash = hash * 31 + killCount;
+        return updated ? new Page(pageName, items, killCount, hash) : null;
+    }
+
+    private static Item readItem(JsonReader reader) throws IOException
+    {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT)
+        {
+            reader.skipValue();
+            return null;
+        }
 
-            if (itemsImported > 0 || kcImported > 0)
+        String name = null;
+        int id = -1;
+        boolean obtained = false;
+
+        reader.beginObject();
+        while (reader.hasNext())
+        {
+            String field = reader.nextName();
+            JsonToken token = reader.peek();
+            if (field.equals("name") && token == JsonToken.STRING)
+            {
+                name = reader.nextString();
+            }
+            else if (field.equals("id") && token == JsonToken.NUMBER)
             {
-                playerDataManager.savePlayerData();
-                log.info("Imported from Collection Log plugin: {} items, {} KC entries, {} pages",
-                    itemsImported, kcImported, pagesImported);
+                id = reader.nextInt();
+            }
+            else if (field.equals("obtained") && token == JsonToken.BOOLEAN)
+            {
+                obtained = reader.nextBoolean();
             }
             else
             {
-                log.debug("Collection Log plugin data found but no new data to import");
+                reader.skipValue();
             }
+        }
+        reader.endObject();
+
+        return name == null || name.isEmpty() ? null : new Item(name, id, obtained);
+    }
 
-            importedThisSession = true;
+    private static int readKillCount(JsonReader reader) throws IOException
+    {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT)
+        {
+            reader.skipValue();
+            return 0;
         }
-        catch (Exception e)
+
+        int amount = 0;
+        reader.beginObject();
+        while (reader.hasNext())
         {
-            log.debug("Could not import Collection Log plugin data: {}", e.getMessage());
-            importedThisSession = true;
+            if (reader.nextName().equals("amount") && reader.peek() == JsonToken.NUMBER)
+            {
+                amount = reader.nextInt();
+            }
+            else
+            {
+                reader.skipValue();
+            }
         }
+        reader.endObject();
+        return amount;
     }
 
+    // Call on logout and profile switch, before importing for the new profile
     public void resetSession()
     {
+        session.incrementAndGet();
+        stopWatching();
         importedThisSession = false;
     }
 
@@ -194,4 +416,23 @@ public class CollectionLogImporter
 
         return null;
     }
+
+    @Value
+    public static class Page
+    {
+        String name;
+        List<Item> items;
+        // Highest KC line on the page, 0 if none
+        int killCount;
+        // Covers items, obtained flags and KC; used to skip pages that haven't changed
+        long hash;
+    }
+
+    @Value
+    public static class Item
+    {
+        String name;
+        int id;
+        boolean obtained;
+    }
 }
@@ -1,9 +1,10 @@
 package com.droppy;
 
+import java.util.HashMap;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.widgets.Widget;
-import net.runelite.client.game.ItemManager;
 
 @Slf4j
 public class CollectionLogManager
@@ -12,21 +13,32 @@ public class CollectionLogManager
     private static final int ENTRY_HEADER_CHILD = 20;
     private static final int ENTRY_ITEMS_CHILD = 37;
     private static final int ENTRY_TITLE_INDEX = 0;
+    private static final int ITEMS_PER_SLICE = 16;
 
     private final Client client;
-    private final ItemManager itemManager;
+    private final ItemNameCache itemNameCache;
     private final PlayerDataManager playerDataManager;
+    private final ClientTaskScheduler scheduler;
 
     private String lastScrapedPage;
 
-    public CollectionLogManager(Client client, ItemManager itemManager,
-                                PlayerDataManager playerDataManager)
+    // Page title -> fingerprint of what was on screen the last time it was scraped
+    private final Map<String, Long> pageFingerprints = new HashMap<>();
+    // Page title -> fingerprint of a scrape that is still running on the scheduler
+    private final Map<String, Long> pendingFingerprints = new HashMap<>();
+
+    public CollectionLogManager(Client client, ItemNameCache itemNameCache,
+                                PlayerDataManager playerDataManager, ClientTaskScheduler scheduler)
     {
         this.client = client;
-        this.itemManager = itemManager;
+        this.itemNameCache = itemNameCache;
         this.playerDataManager = playerDataManager;
+        this.scheduler = scheduler;
     }
 
+    // The widgets are read right away; the rest of the scrape runs on the scheduler and
+    // ends with a save. Returns nothing on purpose: as a ClientThread task a boolean result
+    // would be read as "not done yet" and rerun every tick.
     public void onCollectionLogPageRendered()
     {
         try
@@ -39,36 +51,117 @@ public class CollectionLogManager
         }
     }
 
-    private void scrapeCurrentPage()
+    // Forget what was scraped, e.g. after switching profiles
+    public void resetFingerprints()
+    {
+        pageFingerprints.clear();
+        pendingFingerprints.clear();
+    }
+
+    private boolean scrapeCurrentPage()
     {
         Widget entryHeader = client.getWidget(COLLECTION_LOG_GROUP, ENTRY_HEADER_CHILD);
         if (entryHeader == null)
         {
-            return;
+            return false;
         }
 
         Widget[] headerChildren = entryHeader.getDynamicChildren();
         if (headerChildren == null || headerChildren.length < 1)
         {
-            return;
+            return false;
         }
 
         String pageTitle = headerChildren[ENTRY_TITLE_INDEX].getText();
         if (pageTitle == null || pageTitle.isEmpty())
         {
-            return;
+            return false;
+        }
+
+        // Script 2731 refires on redraws and scrolling; skip pages that look the same as
+        // the last saved scrape or the one still in flight
+        Widget itemsContainer = client.getWidget(COLLECTION_LOG_GROUP, ENTRY_ITEMS_CHILD);
+        long fingerprint = fingerprint(pageTitle, headerChildren, itemsContainer);
+        Long previous = pageFingerprints.get(pageTitle);
+        Long pending = pendingFingerprints.get(pageTitle);
+        if ((previous != null && previous == fingerprint) || (pending != null && pending == fingerprint))
+        {
+            return false;
+        }
+
+        String title = stripTags(pageTitle);
+
+        log.debug("Scraping collection log page: {}", title);
+
+        parseKillCounts(title, headerChildren);
+
+        // Widgets can be gone by the next tick, so snapshot them before slicing the work
+        Widget[] itemWidgets = itemsContainer != null ? itemsContainer.getDynamicChildren() : null;
+        int count = itemWidgets != null ? itemWidgets.length : 0;
+        int[] itemIds = new int[count];
+        boolean[] obtained = new boolean[count];
+        for (int i = 0; i < count; i++)
+        {
+            itemIds[i] = itemWidgets[i].getItemId();
+            obtained[i] = itemWidgets[i].getOpacity() == 0;
         }
 
-        pageTitle = stripTags(pageTitle);
+        pendingFingerprints.put(pageTitle, fingerprint);
+        int[] next = {0};
+        scheduler.submit("clog scrape: " + title, () ->
+        {
+            int end = Math.min(next[0] + ITEMS_PER_SLICE, count);
+            try
+            {
+                parseItems(title, itemIds, obtained, next[0], end);
+            }
+            catch (RuntimeException e)
+            {
+                pendingFingerprints.remove(pageTitle, fingerprint);
+                throw e;
+            }
+            next[0] = end;
+            if (end < count)
+            {
+                return false;
+            }
 
-        log.debug("Scraping collection log page: {}", pageTitle);
+            log.debug("Scraped {} items from {}", count, title);
+            playerDataManager.markPageSynced(title);
+            lastScrapedPage = title;
+            // Only a page that made it to disk counts as seen; a failed slice or save leaves
+            // it to be scraped again on the next redraw
+            boolean saved = playerDataManager.savePlayerData();
+            pendingFingerprints.remove(pageTitle, fingerprint);
+            if (saved)
+            {
+                pageFingerprints.put(pageTitle, fingerprint);
+            }
+            return true;
+        });
+        return true;
+    }
 
-        parseKillCounts(pageTitle, headerChildren);
-        parseItems(pageTitle);
+    // Title, KC lines and (item ID, opacity) pairs: everything the scrape reads
+    private static long fingerprint(String title, Widget[] headerChildren, Widget itemsContainer)
+    {
+        long hash = title.hashCode();
+        for (int i = 2; i < headerChildren.length; i++)
+        {
+            String text = headerChildren[i].getText();
+            hash = hash * 31 + (text == null ? 0 : text.hashCode());
+        }
 
-        playerDataManager.markPageSynced(pageTitle);
-        lastScrapedPage = pageTitle;
-        playerDataManager.savePlayerData();
+        Widget[] itemWidgets = itemsContainer != null ? itemsContainer.getDynamicChildren() : null;
+        if (itemWidgets != null)
+        {
+            for (Widget itemWidget : itemWidgets)
+            {
+                hash = hash * 31 + itemWidget.getItemId();
+                hash = hash * 31 + itemWidget.getOpacity();
+            }
+        }
+        return hash;
     }
 
     private void parseKillCounts(String pageTitle, Widget[] headerChildren)
@@ -105,43 +198,26 @@ public class CollectionLogManager
         }
     }
 
-    private void parseItems(String pageTitle)
+    private void parseItems(String pageTitle, int[] itemIds, boolean[] obtained, int from, int to)
     {
-        Widget itemsContainer = client.getWidget(COLLECTION_LOG_GROUP, ENTRY_ITEMS_CHILD);
-        if (itemsContainer == null)
-        {
-            return;
-        }
-
-        Widget[] itemWidgets = itemsContainer.getDynamicChildren();
-        if (itemWidgets == null)
+        for (int i = from; i < to; i++)
         {
-            return;
-        }
-
-        int obtainedCount = 0;
-
-        for (Widget itemWidget : itemWidgets)
-        {
-            int itemId = itemWidget.getItemId();
+            int itemId = itemIds[i];
             if (itemId <= 0)
             {
                 continue;
             }
 
-            String itemName = itemManager.getItemComposition(itemId).getName();
-            if (itemName == null || itemName.isEmpty())
+            String itemName = itemNameCache.getName(itemId);
+            if (itemName == null)
             {
                 continue;
             }
 
             playerDataManager.addClogItem(itemName, itemId);
 
-            boolean obtained = itemWidget.getOpacity() == 0;
-
-            if (obtained)
+            if (obtained[i])
             {
-                obtainedCount++;
                 playerDataManager.markItemObtainedFromSync(itemName);
                 log.debug("  Obtained: {} (id={})", itemName, itemId);
             }
@@ -151,9 +227,6 @@ public class CollectionLogManager
                 log.debug("  Missing: {} (id={})", itemName, itemId);
             }
         }
-
-        log.debug("Scraped {} items from {}: {} obtained",
-            itemWidgets.length, pageTitle, obtainedCount);
     }
 
     public boolean isCollectionLogOpen()
@@ -0,0 +1,94 @@
+package com.droppy;
+
+/**
+ * Log completion maths over a monster's remaining drops, treating each drop as an independent
+ * roll per kill. Drops are geometric, so where the player is only matters through which items
+ * are still missing. All methods take log(1 - rate) per missing drop (see DropEntry).
+ */
+public class CompletionCalculator
+{
+    // Simpson panels over log(t); the integrand is smooth there so this is plenty
+    private static final int PANELS = 256;
+    // The integrand is ~1 below this many kills of the most common drop
+    private static final double START_FRACTION = 1e-4;
+    // Stop once the tail is below e^-40 of a kill
+    private static final double TAIL_EXPONENT = 40.0;
+
+    // 1 - prod(1 - r) over the missing drops
+    public static double chanceOfNewUnique(double[] log1mRates, int count)
+    {
+        double missAll = 0;
+        for (int i = 0; i < count; i++)
+        {
+            missAll += log1mRates[i];
+        }
+        return -Math.expm1(missAll);
+    }
+
+    // Expected kills until every missing drop has dropped, i.e. E[max of geometrics], from
+    // the Poissonized form E[T] = integral of 1 - prod(1 - e^(-lambda t)) dt with
+    // lambda = -log(1 - r). Summing P(T > n) over whole kills instead adds about half a kill
+    // (Euler-Maclaurin). Returns 0 with nothing missing and -1 if a drop can never drop.
+    public static double expectedKillsToComplete(double[] log1mRates, int count)
+    {
+        if (count == 0)
+        {
+            return 0;
+        }
+        if (count == 1)
+        {
+            // Plain geometric, where the half-kill correction is furthest off
+            double rate = -Math.expm1(log1mRates[0]);
+            return rate > 0 ? 1 / rate : -1;
+        }
+
+        double minLambda = Double.POSITIVE_INFINITY;
+        double maxLambda = 0;
+        for (int i = 0; i < count; i++)
+        {
+            double lambda = -log1mRates[i];
+            if (lambda <= 0)
+            {
+                return -1;
+            }
+            if (lambda != Double.POSITIVE_INFINITY)
+            {
+                minLambda = Math.min(minLambda, lambda);
+                maxLambda = Math.max(maxLambda, lambda);
+            }
+        }
+        if (maxLambda == 0)
+        {
+            // Only guaranteed drops left
+            return 1;
+        }
+
+        // Substituting t = e^u spreads rare and common drops evenly over the range
+        double start = START_FRACTION / maxLambda;
+        double end = (Math.log(count) + TAIL_EXPONENT) / minLambda;
+        double from = Math.log(start);
+        double h = (Math.log(end) - from) / PANELS;
+
+        double sum = survival(log1mRates, count, start) * start
+            + survival(log1mRates, count, end) * end;
+        for (int i = 1; i < PANELS; i++)
+        {
+            double t = Math.exp(from + i * h);
+            sum += (i % 2 == 0 ? 2 : 4) * survival(log1mRates, count, t) * t;
+        }
+
+        // Below start the integrand is 1, so that stretch contributes start
+        return start + sum * h / 3 + 0.5;
+    }
+
+    // P(T > t) = 1 - prod(1 - e^(-lambda t)), with the product summed in log space
+    private static double survival(double[] log1mRates, int count, double t)
+    {
+        double logAllDropped = 0;
+        for (int i = 0; i < count; i++)
+        {
+            logAllDropped += Math.log1p(-Math.exp(log1mRates[i] * t));
+        }
+        return -Math.expm1(logAllDropped);
+    }
+}
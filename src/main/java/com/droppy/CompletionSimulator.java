@@ -0,0 +1,144 @@
+package com.droppy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import lombok.Value;
+
+/**
+ * Monte Carlo kills-to-finish for a monster's missing drops, for percentiles the closed form
+ * in CompletionCalculator can't give. A trial samples each missing drop's kill count directly
+ * from its geometric distribution and keeps the largest, so it costs one draw per drop rather
+ * than one per kill. Trials are split over the common fork/join pool, each leaf with its own
+ * SplittableRandom, writing into one preallocated array.
+ *
+ * Drops are geometric, so results only depend on which drops are missing and are cached per
+ * monster and missing set; kills never invalidate them.
+ */
+public class CompletionSimulator
+{
+    private static final int TRIALS = 1 << 18;
+    private static final int LEAF_TRIALS = 16_384;
+    private static final int CACHE_SIZE = 64;
+    private static final long SEED = 0x44524f50L;
+
+    // Guarded by itself
+    private final Map<Key, Result> cache = new LinkedHashMap<Key, Result>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Result> eldest)
+        {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    // missing must only hold drops with a known rate; returns null when nothing is missing
+    public Result simulate(String monsterKey, List<DropEntry> missing)
+    {
+        if (missing.isEmpty())
+        {
+            return null;
+        }
+
+        List<String> names = new ArrayList<>(missing.size());
+        for (DropEntry drop : missing)
+        {
+            names.add(drop.getCanonicalName());
+        }
+        Key key = new Key(monsterKey, names);
+        synchronized (cache)
+        {
+            Result cached = cache.get(key);
+            if (cached != null)
+            {
+                return cached;
+            }
+        }
+
+        double[] log1mRates = new double[missing.size()];
+        for (int i = 0; i < log1mRates.length; i++)
+        {
+            log1mRates[i] = missing.get(i).getLog1mRate();
+        }
+
+        // Fixed seed so the same missing set always shows the same numbers
+        int[] kills = new int[TRIALS];
+        ForkJoinPool.commonPool().invoke(new Trials(log1mRates, kills, 0, TRIALS, new SplittableRandom(SEED)));
+        Arrays.parallelSort(kills);
+
+        Result result = new Result(kills[TRIALS / 2], kills[TRIALS * 9 / 10], kills[TRIALS * 99 / 100]);
+        synchronized (cache)
+        {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    private static class Trials extends RecursiveAction
+    {
+        private final double[] log1mRates;
+        private final int[] kills;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        private Trials(double[] log1mRates, int[] kills, int from, int to, SplittableRandom random)
+        {
+            this.log1mRates = log1mRates;
+            this.kills = kills;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= LEAF_TRIALS)
+            {
+                for (int trial = from; trial < to; trial++)
+                {
+                    kills[trial] = completionKills();
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new Trials(log1mRates, kills, from, mid, random.split()),
+                new Trials(log1mRates, kills, mid, to, random.split()));
+        }
+
+        // Inverse CDF of the geometric: kills until a drop = ceil(log(U) / log(1 - r))
+        private int completionKills()
+        {
+            double longest = 1;
+            for (double log1mRate : log1mRates)
+            {
+                // 1 - nextDouble() is in (0, 1], so log never sees 0
+                double kills = Math.ceil(Math.log(1.0 - random.nextDouble()) / log1mRate);
+                longest = Math.max(longest, kills);
+            }
+            return (int) Math.min(longest, Integer.MAX_VALUE);
+        }
+    }
+
+    @Value
+    private static class Key
+    {
+        String monsterKey;
+        List<String> missing;
+    }
+
+    @Value
+    public static class Result
+    {
+        int median;
+        int p90;
+        int p99;
+    }
+}
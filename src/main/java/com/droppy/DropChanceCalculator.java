@@ -1,47 +1,162 @@
 package com.droppy;
 
-// P(at least 1 drop in N kills) = 1 - (1 - dropRate)^N
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+
+// P(at least 1 drop in N kills) = 1 - (1 - dropRate)^N, evaluated in log space as
+// -expm1(N * log1p(-dropRate)) so tiny rates at high KC keep full precision
 public class DropChanceCalculator
 {
+    private static final double TIE_TOLERANCE = 1e-6;
+    // The default locale's separators, as String.format used; read once, like the count cache
+    private static final DecimalFormatSymbols SYMBOLS = DecimalFormatSymbols.getInstance();
+    private static final char DECIMAL_SEPARATOR = SYMBOLS.getDecimalSeparator();
+    private static final char GROUPING_SEPARATOR = SYMBOLS.getGroupingSeparator();
+    private static final int COUNT_CACHE_SIZE = 10_000;
+    private static final String[] COUNT_CACHE = new String[COUNT_CACHE_SIZE];
+    private static final ThreadLocal<StringBuilder> SCRATCH = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
     public static double calculateChance(double dropRate, int killCount)
     {
-        if (dropRate <= 0 || killCount <= 0)
+        return chanceFromLog1m(log1mRate(dropRate), killCount);
+    }
+
+    // log(1 - r); DropEntry keeps this per drop so it isn't recomputed for every KC. expm1 is
+    // still about twice the cost of Math.pow, which is accepted here for the precision
+    public static double log1mRate(double dropRate)
+    {
+        if (dropRate <= 0)
         {
             return 0.0;
         }
-
         if (dropRate >= 1.0)
         {
-            return 1.0;
+            return Double.NEGATIVE_INFINITY;
         }
+        return Math.log1p(-dropRate);
+    }
 
-        return 1.0 - Math.pow(1.0 - dropRate, killCount);
+    // 1 - (1 - r)^N = -expm1(N * log(1 - r))
+    public static double chanceFromLog1m(double log1mRate, int killCount)
+    {
+        if (log1mRate == 0 || killCount <= 0)
+        {
+            return 0.0;
+        }
+        if (log1mRate == Double.NEGATIVE_INFINITY)
+        {
+            return 1.0;
+        }
+        return -Math.expm1(killCount * log1mRate);
     }
 
     public static String formatPercent(double probability)
+    {
+        StringBuilder sb = scratch();
+        appendPercent(sb, probability);
+        return sb.toString();
+    }
+
+    // Fixed point: 2 decimals from 10% up, 4 below, rounded half up like the old String.format,
+    // with the default locale's decimal separator.
+    public static StringBuilder appendPercent(StringBuilder sb, double probability)
     {
         if (probability <= 0)
         {
-            return "0%";
+            return sb.append("0%");
         }
         if (probability >= 1.0)
         {
-            return "100%";
+            return sb.append("100%");
         }
 
         double percent = probability * 100.0;
 
         if (percent < 0.01)
         {
-            return "<0.01%";
+            return sb.append("<0.01%");
+        }
+
+        int decimals = percent >= 10.0 ? 2 : 4;
+        long scale = decimals == 2 ? 100 : 10_000;
+        double product = percent * scale;
+        long scaled = Math.round(product);
+        // Math.round rounds the binary product; "%.4f" rounds the shortest decimal form half up.
+        // They only disagree near a tie, so only those go through BigDecimal.
+        if (Math.abs(product - Math.floor(product) - 0.5) < TIE_TOLERANCE)
+        {
+            scaled = BigDecimal.valueOf(percent).setScale(decimals, RoundingMode.HALF_UP)
+                .unscaledValue().longValue();
+        }
+        sb.append(scaled / scale).append(DECIMAL_SEPARATOR);
+        long fraction = scaled % scale;
+        for (long digit = scale / 10; digit > fraction && digit > 1; digit /= 10)
+        {
+            sb.append('0');
         }
+        return sb.append(fraction).append('%');
+    }
 
-        // Full precision
-        if (percent >= 10.0)
+    // Grouped like "%,d" with the default locale's separator; the common KC range is served
+    // from a cache
+    public static String formatCount(long value)
+    {
+        if (value >= 0 && value < COUNT_CACHE_SIZE)
         {
-            return String.format("%.2f%%", percent);
+            String cached = COUNT_CACHE[(int) value];
+            if (cached == null)
+            {
+                cached = appendCount(new StringBuilder(8), value).toString();
+                // Racing threads write equal strings, so the unsynchronized store is harmless
+                COUNT_CACHE[(int) value] = cached;
+            }
+            return cached;
         }
-        return String.format("%.4f%%", percent);
+
+        StringBuilder sb = scratch();
+        appendCount(sb, value);
+        return sb.toString();
+    }
+
+    public static StringBuilder appendCount(StringBuilder sb, long value)
+    {
+        if (value < 0)
+        {
+            sb.append('-');
+            value = -value;
+        }
+
+        long group = 1;
+        while (group <= value / 1000)
+        {
+            group *= 1000;
+        }
+
+        sb.append(value / group);
+        for (group /= 1000; group > 0; group /= 1000)
+        {
+            long part = value / group % 1000;
+            sb.append(GROUPING_SEPARATOR);
+            if (part < 100)
+            {
+                sb.append('0');
+            }
+            if (part < 10)
+            {
+                sb.append('0');
+            }
+            sb.append(part);
+        }
+        return sb;
+    }
+
+    // One reusable builder per thread for the String-returning formatters
+    private static StringBuilder scratch()
+    {
+        StringBuilder sb = SCRATCH.get();
+        sb.setLength(0);
+        return sb;
     }
 
     // n = log(1 - P) / log(1 - r)
@@ -52,7 +167,22 @@ public class DropChanceCalculator
             return -1;
         }
 
-        return (int) Math.ceil(Math.log(1.0 - targetProbability) / Math.log(1.0 - dropRate));
+        return (int) Math.ceil(Math.log1p(-targetProbability) / log1mRate(dropRate));
+    }
+
+    // killsForProbability for a whole drop table: the target's log is taken once instead of
+    // per drop, and the rates' logs come precomputed from DropEntry. out[i] is -1 where the
+    // rate is unknown (log 0) or guaranteed (log -inf), which the division turns into <= 0.
+    public static void killsForProbability(double[] log1mRates, double targetProbability, int[] out)
+    {
+        double target = targetProbability > 0 && targetProbability < 1.0
+            ? Math.log1p(-targetProbability)
+            : Double.NaN;
+        for (int i = 0; i < log1mRates.length; i++)
+        {
+            double kills = Math.ceil(target / log1mRates[i]);
+            out[i] = kills > 0 && kills < Integer.MAX_VALUE ? (int) kills : -1;
+        }
     }
 
     public static String expectedKills(double dropRate)
@@ -61,7 +191,9 @@ public class DropChanceCalculator
         {
             return "N/A";
         }
-        return String.format("%,d kc", Math.round(1.0 / dropRate));
+        StringBuilder sb = scratch();
+        appendCount(sb, Math.round(1.0 / dropRate)).append(" kc");
+        return sb.toString();
     }
 
     public static String formatDropRate(double dropRate)
@@ -76,6 +208,8 @@ public class DropChanceCalculator
         }
 
         long denominator = Math.round(1.0 / dropRate);
-        return "1/" + String.format("%,d", denominator);
+        StringBuilder sb = scratch().append("1/");
+        appendCount(sb, denominator);
+        return sb.toString();
     }
 }
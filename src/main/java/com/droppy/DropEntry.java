@@ -10,6 +10,26 @@ public class DropEntry
     int itemId;
     // Original wiki fraction string (e.g. "3/128")
     String rarityDisplay;
+    // Lowercased, trimmed name for matching against ItemNameCache
+    String canonicalName;
+    // log(1 - dropRate), see DropChanceCalculator
+    double log1mRate;
+
+    public DropEntry(String itemName, double dropRate, int itemId, String rarityDisplay)
+    {
+        this.itemName = itemName;
+        this.dropRate = dropRate;
+        this.itemId = itemId;
+        this.rarityDisplay = rarityDisplay;
+        this.canonicalName = ItemNameCache.canonicalize(itemName);
+        this.log1mRate = DropChanceCalculator.log1mRate(dropRate);
+    }
+
+    // Chance of at least one of this drop in killCount kills
+    public double chanceAt(int killCount)
+    {
+        return DropChanceCalculator.chanceFromLog1m(log1mRate, killCount);
+    }
 
     @Override
     public String toString()
@@ -0,0 +1,192 @@
+package com.droppy;
+
+import java.awt.Color;
+import java.awt.Image;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Value;
+import net.runelite.client.ui.ColorScheme;
+
+/**
+ * Computes drop list views from player state. Safe to call from any thread: KC lookups,
+ * chance maths and formatting all happen here so the EDT only swaps in the result.
+ */
+public class DropListBuilder
+{
+    private static final Color OBTAINED_COLOR = ColorScheme.PROGRESS_COMPLETE_COLOR;
+    private static final Color HIGH_CHANCE_COLOR = ColorScheme.PROGRESS_INPROGRESS_COLOR;
+    private static final Color VERY_HIGH_CHANCE_COLOR = ColorScheme.PROGRESS_ERROR_COLOR;
+
+    private final DroppyConfig config;
+    private final WikiDropFetcher wikiDropFetcher;
+    private final PlayerDataManager playerDataManager;
+    private final KillCountManager killCountManager;
+    private final ItemIconCache iconCache;
+    private final CompletionSimulator completionSimulator = new CompletionSimulator();
+
+    public DropListBuilder(DroppyConfig config, WikiDropFetcher wikiDropFetcher,
+                           PlayerDataManager playerDataManager, KillCountManager killCountManager,
+                           ItemIconCache iconCache)
+    {
+        this.config = config;
+        this.wikiDropFetcher = wikiDropFetcher;
+        this.playerDataManager = playerDataManager;
+        this.killCountManager = killCountManager;
+        this.iconCache = iconCache;
+    }
+
+    public DropListView build(String monsterName)
+    {
+        MonsterDropData data = wikiDropFetcher.getDropData(monsterName);
+        if (data == null || data.getDrops().isEmpty())
+        {
+            return new DropListView(monsterName, monsterName, "", "", null,
+                "No drop data found for " + monsterName, List.of(), 0);
+        }
+
+        String kcText;
+        int totalKc = killCountManager.getKillCount(monsterName);
+        int kcSinceDrop = playerDataManager.getKcSinceLastDrop(monsterName);
+        if (totalKc > 0)
+        {
+            kcText = "Total KC: " + DropChanceCalculator.formatCount(totalKc)
+                + "  |  Since drop: " + DropChanceCalculator.formatCount(kcSinceDrop);
+        }
+        else
+        {
+            kcText = "No KC tracked yet";
+        }
+
+        List<DropRowModel> rows = new ArrayList<>();
+        List<DropEntry> missing = new ArrayList<>();
+        boolean showOnlyUnobtained = config.showOnlyUnobtained();
+        double threshold = config.highlightThreshold() / 100.0;
+        for (DropEntry drop : data.getDrops())
+        {
+            if (showOnlyUnobtained && playerDataManager.hasItem(drop.getItemName()))
+            {
+                continue;
+            }
+
+            boolean obtained = playerDataManager.hasItem(drop.getItemName());
+            // Drops without a known rate are left out of the completion estimate
+            if (!obtained && drop.getDropRate() > 0)
+            {
+                missing.add(drop);
+            }
+            int kc = playerDataManager.getKcSinceLastDrop(monsterName, drop.getItemName());
+            rows.add(createRow(drop, obtained, kc, threshold, ""));
+        }
+
+        String statusText = rows.isEmpty()
+            ? "No drop data available"
+            : rows.size() + " collection log items";
+        Completion completion = completion(monsterName, missing);
+        return new DropListView(monsterName, data.getMonsterName(), kcText, completion.getText(),
+            completion.getTooltip(), statusText, rows, threshold);
+    }
+
+    // Account-wide driest unobtained drops, one row per monster and item
+    public DropListView buildOverview(List<DrynessIndex.Entry> driest)
+    {
+        double threshold = config.highlightThreshold() / 100.0;
+        List<DropRowModel> rows = new ArrayList<>(driest.size());
+        for (DrynessIndex.Entry entry : driest)
+        {
+            rows.add(createRow(entry.getDrop(), false, entry.getKc(), threshold,
+                entry.getMonsterName() + " \u2022 "));
+        }
+
+        String statusText = rows.isEmpty()
+            ? "Kill something to start tracking"
+            : "Driest " + rows.size() + " unobtained items";
+        return new DropListView(null, "Driest items", "", "", null, statusText, rows, threshold);
+    }
+
+    // missing holds the unobtained drops with a known rate
+    private Completion completion(String monsterName, List<DropEntry> missing)
+    {
+        if (missing.isEmpty())
+        {
+            return new Completion("", null);
+        }
+
+        double[] log1mRates = new double[missing.size()];
+        for (int i = 0; i < log1mRates.length; i++)
+        {
+            log1mRates[i] = missing.get(i).getLog1mRate();
+        }
+
+        double expected = CompletionCalculator.expectedKillsToComplete(log1mRates, log1mRates.length);
+        String text = "Log done in ~" + DropChanceCalculator.formatCount(Math.round(expected)) + " kc"
+            + "  |  New unique: " + DropChanceCalculator.formatPercent(
+                CompletionCalculator.chanceOfNewUnique(log1mRates, log1mRates.length));
+
+        CompletionSimulator.Result simulated = completionSimulator.simulate(monsterName.toLowerCase().trim(), missing);
+        String tooltip = "Kills to finish from here: half of players within "
+            + DropChanceCalculator.formatCount(simulated.getMedian()) + ", 90% within "
+            + DropChanceCalculator.formatCount(simulated.getP90()) + ", 99% within "
+            + DropChanceCalculator.formatCount(simulated.getP99());
+        return new Completion(text, tooltip);
+    }
+
+    @Value
+    private static class Completion
+    {
+        String text;
+        String tooltip;
+    }
+
+    // infoPrefix goes before the rate on the info line
+    private DropRowModel createRow(DropEntry drop, boolean obtained, int kc, double threshold, String infoPrefix)
+    {
+        double chance = drop.chanceAt(kc);
+        String chanceStr = DropChanceCalculator.formatPercent(chance);
+
+        Color chanceColor = chanceColor(chance, obtained, threshold);
+
+        // Item icon - prefer wiki ID, fallback to clog-scraped ID
+        int itemId = drop.getItemId();
+        if (itemId <= 0)
+        {
+            itemId = playerDataManager.getClogItemId(drop.getItemName());
+        }
+
+        Image icon = iconCache.getIcon(itemId, drop.getItemName());
+
+        StringBuilder info = new StringBuilder(48).append(infoPrefix);
+        if (drop.getRarityDisplay() != null)
+        {
+            info.append(drop.getRarityDisplay());
+        }
+        else
+        {
+            info.append(DropChanceCalculator.formatDropRate(drop.getDropRate()));
+        }
+        if (kc > 0)
+        {
+            DropChanceCalculator.appendCount(info.append(" \u2022 "), kc).append(" kc");
+        }
+
+        return new DropRowModel(drop.getItemName(), itemId, icon, obtained, kc, chance,
+            drop.getLog1mRate(), info.toString(), chanceStr, chanceColor);
+    }
+
+    // threshold is the highlight threshold as a fraction, 0 when disabled
+    public static Color chanceColor(double chance, boolean obtained, double threshold)
+    {
+        if (obtained)
+        {
+            return OBTAINED_COLOR;
+        }
+        if (chance >= 0.9)
+        {
+            return VERY_HIGH_CHANCE_COLOR;
+        }
+        if (threshold > 0 && chance >= threshold)
+        {
+            return HIGH_CHANCE_COLOR;
+        }
+        return ColorScheme.LIGHT_GRAY_COLOR;
+    }
+}
@@ -0,0 +1,23 @@
+package com.droppy;
+
+import java.util.List;
+import lombok.Value;
+
+/**
+ * A monster's drop list as the panel shows it, built off the EDT and applied in one go.
+ */
+@Value
+public class DropListView
+{
+    String monsterName;
+    String title;
+    String kcText;
+    // Expected KC to finish the log and next-kill unique chance, empty when not applicable
+    String completionText;
+    // Simulated kills-to-finish percentiles for the completion tooltip, null when none
+    String completionTooltip;
+    String statusText;
+    List<DropRowModel> rows;
+    // Highlight threshold the row colours were picked with, as a fraction
+    double highlightThreshold;
+}
@@ -0,0 +1,26 @@
+package com.droppy;
+
+import java.awt.Color;
+import java.awt.Image;
+import lombok.Value;
+
+/**
+ * Everything a drop list row paints, computed once per refresh.
+ */
+@Value
+public class DropRowModel
+{
+    String itemName;
+    // Item ID the icon was loaded for, 0 or less for a placeholder
+    int itemId;
+    Image icon;
+    boolean obtained;
+    int kc;
+    double chance;
+    // log(1 - drop rate), for projecting the chance at other KCs
+    double log1mRate;
+    // Rate plus KC, e.g. "1/512 • 1,234 kc"
+    String infoText;
+    String chanceText;
+    Color chanceColor;
+}
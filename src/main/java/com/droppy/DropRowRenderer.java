@@ -0,0 +1,152 @@
+package com.droppy;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import javax.swing.JComponent;
+import javax.swing.JList;
+import javax.swing.ListCellRenderer;
+import net.runelite.client.ui.ColorScheme;
+import net.runelite.client.ui.FontManager;
+
+/**
+ * Paints a whole drop row (icon, name, rate/KC line, progress bar and percentage) as one
+ * component, so a drop list only lays out and paints the rows that are on screen.
+ */
+public class DropRowRenderer extends JComponent implements ListCellRenderer<DropRowModel>
+{
+    // JList client property holding the hovered row index
+    public static final String HOVER_INDEX = "droppy.hoverIndex";
+    // JList client properties for what-if projections: extra kills on top of each row's KC,
+    // and the highlight threshold (fraction) used to colour projected chances
+    public static final String EXTRA_KILLS = "droppy.extraKills";
+    public static final String HIGHLIGHT_THRESHOLD = "droppy.highlightThreshold";
+
+    private static final Color ITEM_BG_COLOR = ColorScheme.DARKER_GRAY_COLOR;
+    private static final Color ITEM_BG_HOVER = ColorScheme.DARK_GRAY_HOVER_COLOR;
+    private static final Color GAP_COLOR = ColorScheme.DARK_GRAY_COLOR;
+    private static final Color OBTAINED_COLOR = ColorScheme.PROGRESS_COMPLETE_COLOR;
+    private static final Color INFO_COLOR = ColorScheme.LIGHT_GRAY_COLOR;
+    private static final Color BAR_BACKGROUND = new Color(30, 30, 30);
+
+    private static final int PADDING = 4;
+    private static final int ICON_SIZE = 32;
+    private static final int BAR_HEIGHT = 8;
+    private static final int GAP = 1;
+
+    private final Font boldFont = FontManager.getRunescapeSmallFont().deriveFont(Font.BOLD);
+    private final Font smallFont = FontManager.getRunescapeSmallFont();
+    private final FontMetrics boldMetrics = getFontMetrics(boldFont);
+    private final FontMetrics smallMetrics = getFontMetrics(smallFont);
+    private final int rowHeight;
+
+    private DropRowModel row;
+    private boolean hovered;
+    private int extraKills;
+    private double highlightThreshold;
+
+    public DropRowRenderer()
+    {
+        rowHeight = PADDING + boldMetrics.getHeight() + smallMetrics.getHeight()
+            + 2 + BAR_HEIGHT + 3 + boldMetrics.getHeight() + PADDING + GAP;
+        setOpaque(true);
+    }
+
+    public int getRowHeight()
+    {
+        return rowHeight;
+    }
+
+    @Override
+    public Component getListCellRendererComponent(JList<? extends DropRowModel> list, DropRowModel value,
+                                                  int index, boolean isSelected, boolean cellHasFocus)
+    {
+        row = value;
+        Object hoverIndex = list.getClientProperty(HOVER_INDEX);
+        hovered = hoverIndex instanceof Integer && (Integer) hoverIndex == index;
+        Object extra = list.getClientProperty(EXTRA_KILLS);
+        extraKills = extra instanceof Integer ? (Integer) extra : 0;
+        Object threshold = list.getClientProperty(HIGHLIGHT_THRESHOLD);
+        highlightThreshold = threshold instanceof Double ? (Double) threshold : 0;
+        return this;
+    }
+
+    // The part of a row that changes with a projection: progress bar and percentage
+    public Rectangle getChanceBounds(Rectangle cell)
+    {
+        int x = PADDING + ICON_SIZE + PADDING;
+        int y = PADDING + boldMetrics.getHeight() + smallMetrics.getHeight() + 2;
+        return new Rectangle(cell.x + x, cell.y + y, cell.width - x, rowHeight - GAP - y);
+    }
+
+    @Override
+    public Dimension getPreferredSize()
+    {
+        return new Dimension(0, rowHeight);
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics)
+    {
+        Graphics2D g = (Graphics2D) graphics;
+        int width = getWidth();
+
+        g.setColor(GAP_COLOR);
+        g.fillRect(0, rowHeight - GAP, width, GAP);
+        g.setColor(hovered ? ITEM_BG_HOVER : ITEM_BG_COLOR);
+        g.fillRect(0, 0, width, rowHeight - GAP);
+
+        if (row == null)
+        {
+            return;
+        }
+
+        int contentHeight = rowHeight - GAP;
+        if (row.getIcon() != null)
+        {
+            g.drawImage(row.getIcon(), PADDING, (contentHeight - ICON_SIZE) / 2, null);
+        }
+
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+
+        int x = PADDING + ICON_SIZE + PADDING;
+        int textWidth = width - x - PADDING;
+        int y = PADDING;
+
+        g.setFont(boldFont);
+        g.setColor(row.isObtained() ? OBTAINED_COLOR : Color.WHITE);
+        g.drawString(row.isObtained() ? "\u2713 " + row.getItemName() : row.getItemName(),
+            x, y + boldMetrics.getAscent());
+        y += boldMetrics.getHeight();
+
+        g.setFont(smallFont);
+        g.setColor(INFO_COLOR);
+        g.drawString(row.getInfoText(), x, y + smallMetrics.getAscent());
+        y += smallMetrics.getHeight() + 2;
+
+        double chance = row.getChance();
+        Color chanceColor = row.getChanceColor();
+        String chanceText = row.getChanceText();
+        if (extraKills > 0 && !row.isObtained())
+        {
+            chance = DropChanceCalculator.chanceFromLog1m(row.getLog1mRate(), row.getKc() + extraKills);
+            chanceColor = DropListBuilder.chanceColor(chance, false, highlightThreshold);
+            chanceText = DropChanceCalculator.formatPercent(chance);
+        }
+
+        g.setColor(BAR_BACKGROUND);
+        g.fillRect(x, y, textWidth, BAR_HEIGHT);
+        g.setColor(chanceColor);
+        g.fillRect(x, y, (int) (textWidth * Math.min(1.0, chance)), BAR_HEIGHT);
+        y += BAR_HEIGHT + 3;
+
+        g.setFont(boldFont);
+        g.drawString(chanceText, x, y + boldMetrics.getAscent());
+    }
+}
@@ -61,4 +61,15 @@ public interface DroppyConfig extends Config
     {
         return "https://droppy.ark-dlns-smith.workers.dev";
     }
+
+    @ConfigItem(
+        keyName = "dryAlerts",
+        name = "Dry streak alerts",
+        description = "Notify when an unobtained drop passes 50/90/99% chance or 2x/3x its expected KC",
+        position = 7
+    )
+    default boolean dryAlerts()
+    {
+        return true;
+    }
 }
@@ -11,26 +11,38 @@ import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.awt.image.BufferedImage;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
-import javax.swing.ImageIcon;
+import javax.swing.DefaultListModel;
+import javax.swing.DefaultListSelectionModel;
 import javax.swing.JButton;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JPanel;
-import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
+import javax.swing.JSpinner;
 import javax.swing.JTextField;
+import javax.swing.ListModel;
+import javax.swing.SpinnerNumberModel;
 import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.PluginPanel;
-import net.runelite.client.util.AsyncBufferedImage;
 
 @Slf4j
 public class DroppyPanel extends PluginPanel
@@ -43,13 +55,17 @@ public class DroppyPanel extends PluginPanel
     private static final Color OBTAINED_COLOR = ColorScheme.PROGRESS_COMPLETE_COLOR;
     private static final Color HIGH_CHANCE_COLOR = ColorScheme.PROGRESS_INPROGRESS_COLOR;
     private static final Color LOW_CHANCE_COLOR = ColorScheme.LIGHT_GRAY_COLOR;
-    private static final Color VERY_HIGH_CHANCE_COLOR = ColorScheme.PROGRESS_ERROR_COLOR;
     private static final Color TAB_ACTIVE_COLOR = ColorScheme.BRAND_ORANGE;
     private static final Color TAB_INACTIVE_COLOR = ColorScheme.DARKER_GRAY_COLOR;
 
 
+    private static final int VIEW_CACHE_SIZE = 32;
+    private static final int OVERVIEW_SIZE = 20;
+    private static final int MAX_EXTRA_KILLS = 100000;
+
     private static final String CURRENT_TAB = "CURRENT";
     private static final String SEARCH_TAB = "SEARCH";
+    private static final String OVERVIEW_TAB = "OVERVIEW";
     private static final String SYNC_TAB = "SYNC";
 
     // All collection log pages in OSRS
@@ -87,14 +103,12 @@ public class DroppyPanel extends PluginPanel
         "Shooting Stars", "Skilling Pets", "Slayer", "TzHaar", "Undead Druids"
     };
 
-    private final DroppyConfig config;
     private final WikiDropFetcher wikiDropFetcher;
     private final PlayerDataManager playerDataManager;
-    private final KillCountManager killCountManager;
-    private final ItemManager itemManager;
 
     private JButton currentTabBtn;
     private JButton searchTabBtn;
+    private JButton overviewTabBtn;
     private JButton syncTabBtn;
     private CardLayout cardLayout;
     private JPanel cardPanel;
@@ -103,30 +117,64 @@ public class DroppyPanel extends PluginPanel
     private JPanel syncListPanel;
 
     // Current tab
-    private JPanel currentDropsPanel;
+    private final DefaultListModel<DropRowModel> currentDrops = new DefaultListModel<>();
+    private JList<DropRowModel> currentDropList;
+    private final AtomicInteger currentGeneration = new AtomicInteger();
     private JLabel currentMonsterTitle;
     private JLabel currentKcLabel;
+    private JLabel currentCompletionLabel;
     private JLabel currentStatusLabel;
     private String currentFightMonster;
 
     // Search tab
     private JTextField searchField;
     private JPanel searchResultsPanel;
-    private JPanel searchDropsPanel;
+    private final DefaultListModel<DropRowModel> searchDrops = new DefaultListModel<>();
+    private JList<DropRowModel> searchDropList;
+    private final AtomicInteger searchGeneration = new AtomicInteger();
     private JLabel searchMonsterTitle;
     private JLabel searchKcLabel;
+    private JLabel searchCompletionLabel;
     private JLabel searchStatusLabel;
     private String searchedMonster;
 
+    // Overview tab
+    private final DefaultListModel<DropRowModel> overviewDrops = new DefaultListModel<>();
+    private final AtomicInteger overviewGeneration = new AtomicInteger();
+    private JLabel overviewStatusLabel;
+
+    private final ScheduledExecutorService executor;
+    private final DrynessIndex drynessIndex;
+    private final DropListBuilder dropListBuilder;
+    private final DropRowRenderer dropRowRenderer = new DropRowRenderer();
+
+    // Normalized monster name -> last built view and that monster's data version when it was
+    // built; only used while that version is current. EDT only.
+    private final Map<String, CachedView> viewCache =
+        new LinkedHashMap<String, CachedView>(32, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedView> eldest)
+            {
+                return size() > VIEW_CACHE_SIZE;
+            }
+        };
+
     public DroppyPanel(DroppyConfig config, WikiDropFetcher wikiDropFetcher,
                        PlayerDataManager playerDataManager,
-                       KillCountManager killCountManager, ItemManager itemManager)
+                       KillCountManager killCountManager, DrynessIndex drynessIndex,
+                       ItemManager itemManager, ScheduledExecutorService executor)
     {
-        this.config = config;
+        // Tabs scroll their own content, which keeps the drop lists virtualized
+        super(false);
+
         this.wikiDropFetcher = wikiDropFetcher;
         this.playerDataManager = playerDataManager;
-        this.killCountManager = killCountManager;
-        this.itemManager = itemManager;
+        this.executor = executor;
+        this.drynessIndex = drynessIndex;
+        // Icons load asynchronously; repaint is safe from any thread
+        this.dropListBuilder = new DropListBuilder(config, wikiDropFetcher, playerDataManager,
+            killCountManager, new ItemIconCache(itemManager, this::repaint));
 
         setLayout(new BorderLayout());
         setBackground(BACKGROUND_COLOR);
@@ -164,7 +212,7 @@ public class DroppyPanel extends PluginPanel
 
         GridBagConstraints tabGbc = new GridBagConstraints();
         tabGbc.fill = GridBagConstraints.HORIZONTAL;
-        tabGbc.weightx = 0.33;
+        tabGbc.weightx = 0.25;
         tabGbc.gridy = 0;
         tabGbc.insets = new Insets(0, 0, 0, 0);
 
@@ -178,12 +226,17 @@ public class DroppyPanel extends PluginPanel
         tabGbc.gridx = 1;
         tabBar.add(searchTabBtn, tabGbc);
 
+        overviewTabBtn = createTabButton("Overview", false);
+        overviewTabBtn.addActionListener(e -> switchTab(OVERVIEW_TAB));
+        tabGbc.gridx = 2;
+        tabBar.add(overviewTabBtn, tabGbc);
+
         syncTabBtn = createTabButton("Sync", false);
         syncTabBtn.addActionListener(e -> {
             refreshSyncTab();
             switchTab(SYNC_TAB);
         });
-        tabGbc.gridx = 2;
+        tabGbc.gridx = 3;
         tabBar.add(syncTabBtn, tabGbc);
 
         topPanel.add(tabBar);
@@ -196,6 +249,7 @@ public class DroppyPanel extends PluginPanel
 
         cardPanel.add(buildCurrentTab(), CURRENT_TAB);
         cardPanel.add(buildSearchTab(), SEARCH_TAB);
+        cardPanel.add(buildOverviewTab(), OVERVIEW_TAB);
         cardPanel.add(buildSyncTab(), SYNC_TAB);
 
         add(cardPanel, BorderLayout.CENTER);
@@ -225,13 +279,16 @@ public class DroppyPanel extends PluginPanel
         currentKcLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         headerPanel.add(currentKcLabel);
 
-        panel.add(headerPanel, BorderLayout.NORTH);
+        currentCompletionLabel = new JLabel("");
+        currentCompletionLabel.setFont(FontManager.getRunescapeSmallFont());
+        currentCompletionLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
+        currentCompletionLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        headerPanel.add(currentCompletionLabel);
 
-        currentDropsPanel = new JPanel();
-        currentDropsPanel.setLayout(new BoxLayout(currentDropsPanel, BoxLayout.Y_AXIS));
-        currentDropsPanel.setBackground(BACKGROUND_COLOR);
+        panel.add(headerPanel, BorderLayout.NORTH);
 
-        JScrollPane scrollPane = new JScrollPane(currentDropsPanel);
+        currentDropList = createDropList(currentDrops);
+        JScrollPane scrollPane = new JScrollPane(currentDropList);
         scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
         scrollPane.setBorder(null);
@@ -319,13 +376,33 @@ public class DroppyPanel extends PluginPanel
         searchKcLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         searchHeader.add(searchKcLabel);
 
-        panel.add(searchHeader, BorderLayout.NORTH);
+        searchCompletionLabel = new JLabel("");
+        searchCompletionLabel.setFont(FontManager.getRunescapeSmallFont());
+        searchCompletionLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
+        searchCompletionLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        searchHeader.add(searchCompletionLabel);
+
+        // What-if projection: repaints the bars in place, the rows themselves don't change
+        JPanel projectionRow = new JPanel(new BorderLayout(6, 0));
+        projectionRow.setBackground(HEADER_COLOR);
+        projectionRow.setAlignmentX(Component.LEFT_ALIGNMENT);
+        projectionRow.setBorder(new EmptyBorder(4, 0, 0, 0));
+
+        JLabel projectionLabel = new JLabel("What if I did more kills:");
+        projectionLabel.setFont(FontManager.getRunescapeSmallFont());
+        projectionLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
+        projectionRow.add(projectionLabel, BorderLayout.WEST);
+
+        JSpinner extraKillsSpinner = new JSpinner(new SpinnerNumberModel(0, 0, MAX_EXTRA_KILLS, 10));
+        extraKillsSpinner.addChangeListener(e ->
+            setExtraKills(searchDropList, (Integer) extraKillsSpinner.getValue()));
+        projectionRow.add(extraKillsSpinner, BorderLayout.CENTER);
+        searchHeader.add(projectionRow);
 
-        searchDropsPanel = new JPanel();
-        searchDropsPanel.setLayout(new BoxLayout(searchDropsPanel, BoxLayout.Y_AXIS));
-        searchDropsPanel.setBackground(BACKGROUND_COLOR);
+        panel.add(searchHeader, BorderLayout.NORTH);
 
-        JScrollPane scrollPane = new JScrollPane(searchDropsPanel);
+        searchDropList = createDropList(searchDrops);
+        JScrollPane scrollPane = new JScrollPane(searchDropList);
         scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
         scrollPane.setBorder(null);
@@ -341,6 +418,127 @@ public class DroppyPanel extends PluginPanel
         return panel;
     }
 
+    private JPanel buildOverviewTab()
+    {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBackground(BACKGROUND_COLOR);
+
+        JPanel headerPanel = new JPanel();
+        headerPanel.setLayout(new BoxLayout(headerPanel, BoxLayout.Y_AXIS));
+        headerPanel.setBackground(HEADER_COLOR);
+        headerPanel.setBorder(new EmptyBorder(8, 10, 8, 10));
+
+        JLabel titleLabel = new JLabel("Driest items");
+        titleLabel.setFont(FontManager.getRunescapeBoldFont().deriveFont(14f));
+        titleLabel.setForeground(Color.WHITE);
+        titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        headerPanel.add(titleLabel);
+
+        JLabel helpLabel = new JLabel("Unobtained drops you were most likely to have by now");
+        helpLabel.setFont(FontManager.getRunescapeSmallFont());
+        helpLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
+        helpLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        headerPanel.add(helpLabel);
+
+        panel.add(headerPanel, BorderLayout.NORTH);
+
+        JScrollPane scrollPane = new JScrollPane(createDropList(overviewDrops));
+        scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+        scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BACKGROUND_COLOR);
+        panel.add(scrollPane, BorderLayout.CENTER);
+
+        overviewStatusLabel = new JLabel("Kill something to start tracking", SwingConstants.CENTER);
+        overviewStatusLabel.setFont(FontManager.getRunescapeSmallFont());
+        overviewStatusLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
+        overviewStatusLabel.setBorder(new EmptyBorder(10, 10, 10, 10));
+        panel.add(overviewStatusLabel, BorderLayout.SOUTH);
+
+        return panel;
+    }
+
+    private JList<DropRowModel> createDropList(DefaultListModel<DropRowModel> model)
+    {
+        JList<DropRowModel> list = new JList<>(model);
+        list.setCellRenderer(dropRowRenderer);
+        list.setFixedCellHeight(dropRowRenderer.getRowHeight());
+        // Small fixed width so the list tracks the viewport instead of widening it
+        list.setFixedCellWidth(1);
+        list.setBackground(BACKGROUND_COLOR);
+        list.setSelectionModel(new DefaultListSelectionModel()
+        {
+            @Override
+            public void setSelectionInterval(int index0, int index1)
+            {
+            }
+        });
+
+        MouseAdapter hoverTracker = new MouseAdapter()
+        {
+            @Override
+            public void mouseMoved(MouseEvent e)
+            {
+                int index = list.locationToIndex(e.getPoint());
+                if (index >= 0 && !list.getCellBounds(index, index).contains(e.getPoint()))
+                {
+                    index = -1;
+                }
+                setHoverIndex(list, index);
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e)
+            {
+                setHoverIndex(list, -1);
+            }
+        };
+        list.addMouseListener(hoverTracker);
+        list.addMouseMotionListener(hoverTracker);
+
+        return list;
+    }
+
+    private void setExtraKills(JList<DropRowModel> list, int extraKills)
+    {
+        list.putClientProperty(DropRowRenderer.EXTRA_KILLS, extraKills);
+
+        int first = list.getFirstVisibleIndex();
+        int last = list.getLastVisibleIndex();
+        if (first < 0)
+        {
+            return;
+        }
+
+        ListModel<DropRowModel> model = list.getModel();
+        for (int i = first; i <= last && i < model.getSize(); i++)
+        {
+            if (!model.getElementAt(i).isObtained())
+            {
+                list.repaint(dropRowRenderer.getChanceBounds(list.getCellBounds(i, i)));
+            }
+        }
+    }
+
+    private static void setHoverIndex(JList<DropRowModel> list, int index)
+    {
+        Object previous = list.getClientProperty(DropRowRenderer.HOVER_INDEX);
+        if (previous instanceof Integer && (Integer) previous == index)
+        {
+            return;
+        }
+
+        list.putClientProperty(DropRowRenderer.HOVER_INDEX, index);
+        if (previous instanceof Integer && (Integer) previous >= 0 && (Integer) previous < list.getModel().getSize())
+        {
+            list.repaint(list.getCellBounds((Integer) previous, (Integer) previous));
+        }
+        if (index >= 0)
+        {
+            list.repaint(list.getCellBounds(index, index));
+        }
+    }
+
     private JPanel buildSyncTab()
     {
         JPanel panel = new JPanel(new BorderLayout());
@@ -383,10 +581,10 @@ public class DroppyPanel extends PluginPanel
     {
         syncListPanel.removeAll();
 
-        java.util.Set<String> syncedPages = playerDataManager.getSyncedPages();
+        Set<String> syncedPages = playerDataManager.getSyncedPages();
 
         // Find all unsynced clog pages
-        java.util.List<String> unsyncedPages = new java.util.ArrayList<>();
+        List<String> unsyncedPages = new ArrayList<>();
         for (String page : ALL_CLOG_PAGES)
         {
             if (!isSynced(page, syncedPages))
@@ -429,7 +627,7 @@ public class DroppyPanel extends PluginPanel
         syncListPanel.repaint();
     }
 
-    private boolean isSynced(String monster, java.util.Set<String> syncedPages)
+    private boolean isSynced(String monster, Set<String> syncedPages)
     {
         String norm = monster.toLowerCase().trim();
         for (String page : syncedPages)
@@ -464,7 +662,7 @@ public class DroppyPanel extends PluginPanel
             int kc = playerDataManager.getKillCount(name);
             if (kc > 0)
             {
-                JLabel kcLabel = new JLabel(String.format("%,d kc", kc));
+                JLabel kcLabel = new JLabel(DropChanceCalculator.formatCount(kc) + " kc");
                 kcLabel.setFont(FontManager.getRunescapeSmallFont());
                 kcLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
                 row.add(kcLabel, BorderLayout.EAST);
@@ -479,6 +677,7 @@ public class DroppyPanel extends PluginPanel
         cardLayout.show(cardPanel, tab);
         styleTabButton(currentTabBtn, CURRENT_TAB.equals(tab));
         styleTabButton(searchTabBtn, SEARCH_TAB.equals(tab));
+        styleTabButton(overviewTabBtn, OVERVIEW_TAB.equals(tab));
         styleTabButton(syncTabBtn, SYNC_TAB.equals(tab));
     }
 
@@ -517,30 +716,21 @@ public class DroppyPanel extends PluginPanel
 
         currentFightMonster = monsterName;
         currentMonsterTitle.setText(monsterName);
-        currentDropsPanel.removeAll();
-
-        MonsterDropData data = wikiDropFetcher.getDropData(monsterName);
-        populateDrops(monsterName, data, currentDropsPanel,
-            currentMonsterTitle, currentKcLabel, currentStatusLabel);
+        reloadCurrent();
     }
 
     public void refreshCurrent()
     {
         if (currentFightMonster != null)
         {
-            String name = currentFightMonster;
-            currentFightMonster = null;
-            setCurrentMonster(name);
+            reloadCurrent();
         }
     }
 
-    public void refreshCurrentForMonster(String monsterName)
+    private void reloadCurrent()
     {
-        if (monsterName != null && monsterName.equalsIgnoreCase(currentFightMonster))
-        {
-            currentFightMonster = null;
-            setCurrentMonster(monsterName);
-        }
+        populateDrops(currentFightMonster, currentDropList, currentGeneration,
+            currentMonsterTitle, currentKcLabel, currentCompletionLabel, currentStatusLabel);
     }
 
     public String getCurrentFightMonster()
@@ -551,7 +741,7 @@ public class DroppyPanel extends PluginPanel
     private void performSearch(String query)
     {
         String queryLower = query.toLowerCase();
-        java.util.List<String> results = new java.util.ArrayList<>();
+        List<String> results = new ArrayList<>();
 
         for (MonsterDropData data : wikiDropFetcher.getAllMonsterData())
         {
@@ -608,11 +798,8 @@ public class DroppyPanel extends PluginPanel
     private void loadSearchMonster(String monsterName)
     {
         searchedMonster = monsterName;
-        searchDropsPanel.removeAll();
-
-        MonsterDropData data = wikiDropFetcher.getDropData(monsterName);
-        populateDrops(monsterName, data, searchDropsPanel,
-            searchMonsterTitle, searchKcLabel, searchStatusLabel);
+        populateDrops(monsterName, searchDropList, searchGeneration,
+            searchMonsterTitle, searchKcLabel, searchCompletionLabel, searchStatusLabel);
     }
 
     public void refreshSearch()
@@ -628,218 +815,156 @@ public class DroppyPanel extends PluginPanel
         return searchedMonster;
     }
 
-    private void populateDrops(String monsterName, MonsterDropData data,
-                               JPanel dropsPanel, JLabel titleLabel,
-                               JLabel kcLabel, JLabel statusLabel)
+    // Builds the view on the executor; only the newest request per list is applied, so a
+    // slow build never overwrites a monster the user has already moved on from. A cached
+    // view of the monster is shown in the meantime.
+    private void populateDrops(String monsterName, JList<DropRowModel> dropList, AtomicInteger generation,
+                               JLabel titleLabel, JLabel kcLabel, JLabel completionLabel, JLabel statusLabel)
     {
-        dropsPanel.removeAll();
-
-        if (data == null || data.getDrops().isEmpty())
+        int requested = generation.incrementAndGet();
+        String cacheKey = monsterName.toLowerCase().trim();
+        DropListView cached = getCachedView(cacheKey);
+        if (cached != null)
         {
-            statusLabel.setText("No drop data found for " + monsterName);
-            titleLabel.setText(monsterName);
-            kcLabel.setText("");
-            dropsPanel.revalidate();
-            dropsPanel.repaint();
-            return;
+            applyView(cached, dropList, titleLabel, kcLabel, completionLabel, statusLabel);
         }
 
-        titleLabel.setText(data.getMonsterName());
-
-        int totalKc = killCountManager.getKillCount(monsterName);
-        int kcSinceDrop = playerDataManager.getKcSinceLastDrop(monsterName);
-        if (totalKc > 0)
+        executor.execute(() ->
         {
-            kcLabel.setText("Total KC: " + String.format("%,d", totalKc)
-                + "  |  Since drop: " + String.format("%,d", kcSinceDrop));
-        }
-        else
-        {
-            kcLabel.setText("No KC tracked yet");
-        }
+            // Read before building, so a change made mid-build leaves the entry stale
+            long version = monsterVersion(cacheKey);
+            DropListView view;
+            try
+            {
+                view = dropListBuilder.build(monsterName);
+            }
+            catch (Exception e)
+            {
+                log.warn("Failed to build drop list for {}: {}", monsterName, e.getMessage());
+                return;
+            }
 
-        int count = 0;
-        for (DropEntry drop : data.getDrops())
+            SwingUtilities.invokeLater(() ->
+            {
+                viewCache.put(cacheKey, new CachedView(version, view));
+                if (requested == generation.get())
+                {
+                    applyView(view, dropList, titleLabel, kcLabel, completionLabel, statusLabel);
+                }
+            });
+        });
+    }
+
+    private static void applyView(DropListView view, JList<DropRowModel> dropList,
+                                  JLabel titleLabel, JLabel kcLabel, JLabel completionLabel,
+                                  JLabel statusLabel)
+    {
+        dropList.putClientProperty(DropRowRenderer.HIGHLIGHT_THRESHOLD, view.getHighlightThreshold());
+        titleLabel.setText(view.getTitle());
+        kcLabel.setText(view.getKcText());
+        completionLabel.setText(view.getCompletionText());
+        completionLabel.setToolTipText(view.getCompletionTooltip());
+        statusLabel.setText(view.getStatusText());
+        patchRows((DefaultListModel<DropRowModel>) dropList.getModel(), view.getRows());
+    }
+
+    // Builds and caches a monster's view (loading its icons) so showing it later is instant
+    public void prewarm(String monsterName)
+    {
+        executor.execute(() ->
         {
-            if (config.showOnlyUnobtained() && playerDataManager.hasItem(drop.getItemName()))
+            try
             {
-                continue;
+                String cacheKey = monsterName.toLowerCase().trim();
+                long version = monsterVersion(cacheKey);
+                DropListView view = dropListBuilder.build(monsterName);
+                SwingUtilities.invokeLater(() ->
+                {
+                    if (getCachedView(cacheKey) == null)
+                    {
+                        viewCache.put(cacheKey, new CachedView(version, view));
+                    }
+                });
+            }
+            catch (Exception e)
+            {
+                log.debug("Failed to prewarm drop list for {}: {}", monsterName, e.getMessage());
             }
+        });
+    }
 
-            JPanel row = createDropRow(monsterName, drop);
-            dropsPanel.add(row);
-            dropsPanel.add(Box.createVerticalStrut(1));
-            count++;
-        }
+    private DropListView getCachedView(String cacheKey)
+    {
+        CachedView cached = viewCache.get(cacheKey);
+        return cached != null && cached.getVersion() == monsterVersion(cacheKey)
+            ? cached.getView()
+            : null;
+    }
 
-        if (count == 0)
-        {
-            statusLabel.setText("No drop data available");
-        }
-        else
-        {
-            statusLabel.setText(count + " collection log items");
-        }
-        dropsPanel.revalidate();
-        dropsPanel.repaint();
+    // Per monster, so a kill elsewhere doesn't throw away this monster's cached view
+    private long monsterVersion(String cacheKey)
+    {
+        return playerDataManager.getMonsterVersion(cacheKey, wikiDropFetcher.getDropData(cacheKey));
     }
 
-    private JPanel createDropRow(String monsterName, DropEntry drop)
+    // Player data was reloaded, e.g. on login or a profile switch; EDT only
+    public void clearViewCache()
     {
-        boolean obtained = playerDataManager.hasItem(drop.getItemName());
-        int kc = playerDataManager.getKcSinceLastDrop(monsterName, drop.getItemName());
-        double chance = DropChanceCalculator.calculateChance(drop.getDropRate(), kc);
-        String chanceStr = DropChanceCalculator.formatPercent(chance);
+        viewCache.clear();
+    }
 
-        Color chanceColor;
-        if (obtained)
-        {
-            chanceColor = OBTAINED_COLOR;
-        }
-        else if (chance >= 0.9)
-        {
-            chanceColor = VERY_HIGH_CHANCE_COLOR;
-        }
-        else if (config.highlightThreshold() > 0 && chance >= (config.highlightThreshold() / 100.0))
-        {
-            chanceColor = HIGH_CHANCE_COLOR;
-        }
-        else
+    // Same items in the same order: replace only rows whose values changed, so unchanged
+    // rows and the scroll position are left alone
+    private static void patchRows(DefaultListModel<DropRowModel> drops, List<DropRowModel> rows)
+    {
+        boolean sameItems = drops.getSize() == rows.size();
+        for (int i = 0; sameItems && i < rows.size(); i++)
         {
-            chanceColor = ColorScheme.LIGHT_GRAY_COLOR;
+            sameItems = drops.get(i).getItemName().equals(rows.get(i).getItemName());
         }
 
-        JPanel row = new JPanel(new BorderLayout(4, 0));
-        row.setBackground(ITEM_BG_COLOR);
-        row.setBorder(new EmptyBorder(4, 4, 4, 4));
-        row.setMaximumSize(new Dimension(Integer.MAX_VALUE, 70));
-
-        // Item icon - prefer wiki ID, fallback to clog-scraped ID
-        JLabel iconLabel = new JLabel();
-        Dimension iconSize = new Dimension(32, 32);
-        iconLabel.setPreferredSize(iconSize);
-        iconLabel.setMinimumSize(iconSize);
-        iconLabel.setMaximumSize(iconSize);
-        iconLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        iconLabel.setVerticalAlignment(SwingConstants.CENTER);
-
-        int itemId = drop.getItemId();
-        if (itemId <= 0)
+        if (!sameItems)
         {
-            itemId = playerDataManager.getClogItemId(drop.getItemName());
+            drops.clear();
+            drops.addAll(rows);
+            return;
         }
 
-        if (itemId > 0 && itemManager != null)
+        for (int i = 0; i < rows.size(); i++)
         {
-            AsyncBufferedImage itemImage = itemManager.getImage(itemId);
-            if (itemImage != null)
+            if (!drops.get(i).equals(rows.get(i)))
             {
-                iconLabel.setIcon(new ImageIcon(itemImage));
-                itemImage.onLoaded(() ->
-                {
-                    iconLabel.setIcon(new ImageIcon(itemImage));
-                    iconLabel.revalidate();
-                    iconLabel.repaint();
-                });
+                drops.set(i, rows.get(i));
             }
         }
-        else
-        {
-            BufferedImage placeholder = new BufferedImage(32, 32, BufferedImage.TYPE_INT_ARGB);
-            java.awt.Graphics2D g = placeholder.createGraphics();
-            g.setColor(new Color(60, 60, 60));
-            g.fillRoundRect(0, 0, 32, 32, 6, 6);
-            g.setColor(Color.GRAY);
-            g.setFont(new java.awt.Font("Arial", java.awt.Font.BOLD, 14));
-            String letter = drop.getItemName().isEmpty() ? "?" : drop.getItemName().substring(0, 1).toUpperCase();
-            g.drawString(letter, 10, 22);
-            g.dispose();
-            iconLabel.setIcon(new ImageIcon(placeholder));
-        }
-
-        row.add(iconLabel, BorderLayout.WEST);
-
-        // Name + rate + progress bar
-        JPanel centerPanel = new JPanel();
-        centerPanel.setLayout(new BoxLayout(centerPanel, BoxLayout.Y_AXIS));
-        centerPanel.setOpaque(false);
+    }
 
-        JLabel nameLabel = new JLabel();
-        nameLabel.setFont(FontManager.getRunescapeSmallFont().deriveFont(Font.BOLD));
-        nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-        if (obtained)
-        {
-            nameLabel.setText("\u2713 " + drop.getItemName());
-            nameLabel.setForeground(OBTAINED_COLOR);
-        }
-        else
-        {
-            nameLabel.setText(drop.getItemName());
-            nameLabel.setForeground(Color.WHITE);
-        }
-        centerPanel.add(nameLabel);
-
-        String rateText = drop.getRarityDisplay() != null
-            ? drop.getRarityDisplay()
-            : DropChanceCalculator.formatDropRate(drop.getDropRate());
-        String kcText = kc > 0
-            ? " \u2022 " + String.format("%,d", kc) + " kc"
-            : "";
-        JLabel infoLabel = new JLabel(rateText + kcText);
-        infoLabel.setFont(FontManager.getRunescapeSmallFont());
-        infoLabel.setForeground(LOW_CHANCE_COLOR);
-        infoLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-        centerPanel.add(infoLabel);
-
-        // Progress bar - full width
-        JProgressBar bar = new JProgressBar(0, 10000);
-        bar.setValue((int) (chance * 10000));
-        bar.setStringPainted(false);
-        bar.setPreferredSize(new Dimension(0, 8));
-        bar.setMaximumSize(new Dimension(Integer.MAX_VALUE, 8));
-        bar.setBackground(new Color(30, 30, 30));
-        bar.setForeground(chanceColor);
-        bar.setAlignmentX(Component.LEFT_ALIGNMENT);
-
-        centerPanel.add(Box.createVerticalStrut(2));
-        centerPanel.add(bar);
-        centerPanel.add(Box.createVerticalStrut(3));
-
-        // Percentage below the bar
-        JLabel pctLabel = new JLabel(chanceStr);
-        pctLabel.setFont(FontManager.getRunescapeSmallFont().deriveFont(Font.BOLD));
-        pctLabel.setForeground(chanceColor);
-        pctLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-        centerPanel.add(pctLabel);
-
-        row.add(centerPanel, BorderLayout.CENTER);
-
-        row.addMouseListener(new java.awt.event.MouseAdapter()
+    public void refreshOverview()
+    {
+        int requested = overviewGeneration.incrementAndGet();
+        executor.execute(() ->
         {
-            public void mouseEntered(java.awt.event.MouseEvent e) { row.setBackground(ITEM_BG_HOVER); }
-            public void mouseExited(java.awt.event.MouseEvent e) { row.setBackground(ITEM_BG_COLOR); }
+            DropListView view = dropListBuilder.buildOverview(drynessIndex.top(OVERVIEW_SIZE));
+            SwingUtilities.invokeLater(() ->
+            {
+                if (requested == overviewGeneration.get())
+                {
+                    overviewStatusLabel.setText(view.getStatusText());
+                    patchRows(overviewDrops, view.getRows());
+                }
+            });
         });
+    }
 
-        return row;
+    public void refreshSync()
+    {
+        refreshSyncTab();
     }
 
-    public void onCollectionLogSynced(int totalSyncedPages)
+    @Value
+    private static class CachedView
     {
-        SwingUtilities.invokeLater(() ->
-        {
-            if (currentFightMonster != null)
-            {
-                MonsterDropData data = wikiDropFetcher.getDropData(currentFightMonster);
-                populateDrops(currentFightMonster, data, currentDropsPanel,
-                    currentMonsterTitle, currentKcLabel, currentStatusLabel);
-            }
-            if (searchedMonster != null)
-            {
-                MonsterDropData data = wikiDropFetcher.getDropData(searchedMonster);
-                populateDrops(searchedMonster, data, searchDropsPanel,
-                    searchMonsterTitle, searchKcLabel, searchStatusLabel);
-            }
-            refreshSyncTab();
-        });
+        long version;
+        DropListView view;
     }
 }
@@ -4,15 +4,15 @@ import com.google.gson.Gson;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
-import javax.swing.SwingUtilities;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
@@ -20,9 +20,11 @@ import net.runelite.api.GameState;
 import net.runelite.api.NPC;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
 import net.runelite.api.events.InteractingChanged;
 import net.runelite.api.events.ScriptPostFired;
 import net.runelite.api.events.WidgetLoaded;
+import net.runelite.client.Notifier;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.chat.ChatColorType;
 import net.runelite.client.chat.ChatCommandManager;
@@ -33,7 +35,6 @@ import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.NpcLootReceived;
 import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
-import net.runelite.client.game.ItemStack;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.loottracker.LootReceived;
@@ -52,6 +53,9 @@ public class DroppyPlugin extends Plugin
     private static final int COLLECTION_DRAW_LIST_SCRIPT_ID = 2731;
     private static final int COLLECTION_LOG_GROUP_ID = 621;
     private static final String DRY_COMMAND = "!dry";
+    private static final int PREWARM_MONSTERS = 10;
+    private static final String DRY_TOP_ARGUMENT = "top";
+    private static final int DRY_TOP_SIZE = 5;
 
     private static final Pattern COLLECTION_LOG_PATTERN = Pattern.compile(
         "New item added to your collection log: (.+)",
@@ -88,15 +92,30 @@ public class DroppyPlugin extends Plugin
     @Inject
     private ScheduledExecutorService executor;
 
+    @Inject
+    private Notifier notifier;
+
     private WikiDropFetcher wikiDropFetcher;
     private PlayerDataManager playerDataManager;
+    private ItemNameCache itemNameCache;
     private CollectionLogManager collectionLogManager;
     private CollectionLogImporter collectionLogImporter;
+    private LootHistoryImporter lootHistoryImporter;
     private KillCountManager killCountManager;
+    private DrynessIndex drynessIndex;
+    private DryAlertTracker dryAlertTracker;
     private DroppyApiClient apiClient;
     private DroppyPanel panel;
+    private PanelRefreshScheduler panelRefresh;
     private NavigationButton navButton;
 
+    // Normalized monster name (or "top") -> last !dry response and the state it was built from
+    private final Map<String, DryResponse> dryResponses = new ConcurrentHashMap<>();
+
+    private final LootBatch lootBatch = new LootBatch();
+    private final ClientTaskScheduler clientTaskScheduler = new ClientTaskScheduler();
+    private boolean prewarmed = false;
+
     @Override
     protected void startUp() throws Exception
     {
@@ -104,9 +123,13 @@ public class DroppyPlugin extends Plugin
 
         wikiDropFetcher = new WikiDropFetcher(gson);
         playerDataManager = new PlayerDataManager(configManager, gson);
+        playerDataManager.setPageGroups(wikiDropFetcher.getPageGroups());
         killCountManager = new KillCountManager(playerDataManager, configManager);
-        collectionLogManager = new CollectionLogManager(client, itemManager, playerDataManager);
-        collectionLogImporter = new CollectionLogImporter(gson, playerDataManager);
+        itemNameCache = new ItemNameCache(itemManager);
+        collectionLogManager = new CollectionLogManager(client, itemNameCache, playerDataManager,
+            clientTaskScheduler);
+        collectionLogImporter = new CollectionLogImporter(playerDataManager, executor);
+        lootHistoryImporter = new LootHistoryImporter(configManager, wikiDropFetcher, playerDataManager);
 
         String apiUrl = config.apiUrl();
         if (apiUrl != null && !apiUrl.trim().isEmpty())
@@ -114,15 +137,24 @@ public class DroppyPlugin extends Plugin
             apiClient = new DroppyApiClient(okHttpClient, gson, apiUrl.trim());
         }
 
+        drynessIndex = new DrynessIndex(wikiDropFetcher, playerDataManager, executor);
+        playerDataManager.addListener(drynessIndex::onPlayerDataChanged);
+        dryAlertTracker = new DryAlertTracker(wikiDropFetcher, playerDataManager);
+        playerDataManager.addListener(dryAlertTracker::onPlayerDataChanged);
+
+        panel = new DroppyPanel(config, wikiDropFetcher, playerDataManager,
+            killCountManager, drynessIndex, itemManager, executor);
+        panelRefresh = new PanelRefreshScheduler(panel, wikiDropFetcher);
+        playerDataManager.addListener(panelRefresh::onPlayerDataChanged);
+
         if (client.getGameState() == GameState.LOGGED_IN)
         {
             playerDataManager.loadPlayerData();
             tryImportCollectionLog();
+            importLootHistory();
+            clientThread.invokeLater(this::prewarm);
         }
 
-        panel = new DroppyPanel(config, wikiDropFetcher, playerDataManager,
-            killCountManager, itemManager);
-
         BufferedImage icon = createPluginIcon();
 
         navButton = NavigationButton.builder()
@@ -142,6 +174,8 @@ public class DroppyPlugin extends Plugin
         log.info("Droppy plugin stopped");
         chatCommandManager.unregisterCommand(DRY_COMMAND);
         clientToolbar.removeNavigation(navButton);
+        collectionLogImporter.stopWatching();
+        panelRefresh.stop();
         playerDataManager.savePlayerData();
     }
 
@@ -157,10 +191,15 @@ public class DroppyPlugin extends Plugin
         if (event.getGameState() == GameState.LOGGED_IN)
         {
             playerDataManager.loadPlayerData();
+            collectionLogManager.resetFingerprints();
             tryImportCollectionLog();
+            importLootHistory();
+            prewarm();
         }
         else if (event.getGameState() == GameState.LOGIN_SCREEN)
         {
+            clientTaskScheduler.clear();
+            prewarmed = false;
             playerDataManager.savePlayerData();
             collectionLogImporter.resetSession();
         }
@@ -169,8 +208,17 @@ public class DroppyPlugin extends Plugin
     @Subscribe
     public void onProfileChanged(ProfileChanged event)
     {
+        // Drop the previous profile's file watcher and page hashes before importing
+        collectionLogImporter.resetSession();
         playerDataManager.loadPlayerData();
+        collectionLogManager.resetFingerprints();
         tryImportCollectionLog();
+        importLootHistory();
+        clientThread.invokeLater(() ->
+        {
+            prewarmed = false;
+            prewarm();
+        });
     }
 
     @Subscribe
@@ -188,12 +236,7 @@ public class DroppyPlugin extends Plugin
     {
         if (event.getScriptId() == COLLECTION_DRAW_LIST_SCRIPT_ID)
         {
-            clientThread.invokeLater(() ->
-            {
-                collectionLogManager.onCollectionLogPageRendered();
-                int syncedCount = playerDataManager.getSyncedPageCount();
-                SwingUtilities.invokeLater(() -> panel.onCollectionLogSynced(syncedCount));
-            });
+            clientThread.invokeLater(collectionLogManager::onCollectionLogPageRendered);
         }
     }
 
@@ -212,7 +255,7 @@ public class DroppyPlugin extends Plugin
             if (npcName != null && !npcName.isEmpty())
             {
                 killCountManager.setLastKcMonster(npcName);
-                SwingUtilities.invokeLater(() -> panel.setCurrentMonster(npcName));
+                panelRefresh.setCurrentMonster(npcName);
             }
         }
     }
@@ -226,10 +269,7 @@ public class DroppyPlugin extends Plugin
             return;
         }
 
-        killCountManager.handleLootReceived(npcName);
-        checkForCollectionLogDrops(npcName, event.getItems());
-        SwingUtilities.invokeLater(() -> panel.setCurrentMonster(npcName));
-
+        lootBatch.add(npcName, event.getItems(), true);
         log.debug("Loot received from NPC: {}", npcName);
     }
 
@@ -244,74 +284,51 @@ public class DroppyPlugin extends Plugin
             return;
         }
 
-        if (event.getType() != LootRecordType.NPC)
-        {
-            killCountManager.handleLootReceived(name);
-        }
-
-        checkForCollectionLogDrops(name, event.getItems());
-        SwingUtilities.invokeLater(() -> panel.setCurrentMonster(name));
-
+        lootBatch.add(name, event.getItems(), event.getType() != LootRecordType.NPC);
         log.debug("Loot received (loot tracker): {} type={}", name, event.getType());
     }
 
-    private void checkForCollectionLogDrops(String monsterName, Collection<ItemStack> items)
+    // Loot is buffered per tick so AoE multi-kills cost one pass per distinct source
+    @Subscribe
+    public void onGameTick(GameTick event)
     {
-        MonsterDropData dropData = wikiDropFetcher.getDropData(monsterName);
-        if (dropData == null)
+        if (!lootBatch.isEmpty())
         {
-            return;
+            flushLootBatch();
         }
 
-        Set<Integer> receivedIds = new HashSet<>();
-        Set<String> receivedNames = new HashSet<>();
-        for (ItemStack item : items)
+        clientTaskScheduler.runSlice();
+    }
+
+    private void flushLootBatch()
+    {
+        List<LootBatch.Source> sources = lootBatch.drain();
+        for (LootBatch.Source source : sources)
         {
-            receivedIds.add(item.getId());
-            try
-            {
-                String name = itemManager.getItemComposition(item.getId()).getName();
-                if (name != null)
-                {
-                    receivedNames.add(name.toLowerCase().trim());
-                }
-            }
-            catch (Exception ignored)
+            if (source.getKills() > 0)
             {
+                killCountManager.handleLootReceived(source.getName(), source.getKills());
+                checkDryAlerts(source.getName(), source.getKills());
             }
         }
 
-        boolean anyNew = false;
-        for (DropEntry drop : dropData.getDrops())
-        {
-            if (playerDataManager.hasItem(drop.getItemName()))
-            {
-                continue;
-            }
+        String lastSource = sources.get(sources.size() - 1).getName();
+        panelRefresh.setCurrentMonster(lastSource);
 
-            boolean matched = (drop.getItemId() > 0 && receivedIds.contains(drop.getItemId()))
-                || receivedNames.contains(drop.getItemName().toLowerCase().trim());
+        clientTaskScheduler.submit("loot match", new LootMatchTask(sources, wikiDropFetcher,
+            playerDataManager, itemNameCache));
+    }
 
-            if (matched)
-            {
-                playerDataManager.recordCollectionLogItem(drop.getItemName(), monsterName);
-                log.info("Collection log drop detected from loot: {} from {}",
-                    drop.getItemName(), monsterName);
-                anyNew = true;
-            }
+    private void checkDryAlerts(String monsterName, int kills)
+    {
+        if (!config.dryAlerts())
+        {
+            return;
         }
 
-        if (anyNew)
+        for (String alert : dryAlertTracker.onKills(monsterName, kills))
         {
-            playerDataManager.savePlayerData();
-            SwingUtilities.invokeLater(() ->
-            {
-                panel.refreshCurrentForMonster(monsterName);
-                if (monsterName.equalsIgnoreCase(panel.getSearchedMonster()))
-                {
-                    panel.refreshSearch();
-                }
-            });
+            notifier.notify("Droppy: " + alert);
         }
     }
 
@@ -331,14 +348,7 @@ public class DroppyPlugin extends Plugin
             String monsterName = killCountManager.handleChatMessage(message);
             if (monsterName != null)
             {
-                SwingUtilities.invokeLater(() ->
-                {
-                    panel.refreshCurrentForMonster(monsterName);
-                    if (monsterName.equalsIgnoreCase(panel.getSearchedMonster()))
-                    {
-                        panel.refreshSearch();
-                    }
-                });
+                checkDryAlerts(monsterName, 1);
             }
         }
 
@@ -368,15 +378,27 @@ public class DroppyPlugin extends Plugin
 
         playerDataManager.recordCollectionLogItem(itemName, lastMonster);
         playerDataManager.savePlayerData();
+    }
 
-        SwingUtilities.invokeLater(() ->
+    // Rebuilt only when player data has changed since the cached response was built
+    private String getDryResponse(String monsterName)
+    {
+        String key = monsterName.toLowerCase().trim();
+        long version = playerDataManager.getStateVersion();
+        DryResponse cached = dryResponses.get(key);
+        if (cached != null && cached.getVersion() == version)
         {
-            panel.refreshCurrentForMonster(lastMonster);
-            if (lastMonster != null && lastMonster.equalsIgnoreCase(panel.getSearchedMonster()))
-            {
-                panel.refreshSearch();
-            }
-        });
+            return cached.getText();
+        }
+
+        String response = key.equals(DRY_TOP_ARGUMENT)
+            ? buildDryTopResponse()
+            : buildDryResponse(monsterName);
+        if (response != null)
+        {
+            dryResponses.put(key, new DryResponse(version, response));
+        }
+        return response;
     }
 
     private String buildDryResponse(String monsterName)
@@ -403,7 +425,10 @@ public class DroppyPlugin extends Plugin
 
         List<String> obtainedParts = new ArrayList<>();
         List<String> dryParts = new ArrayList<>();
+        double[] missing = new double[data.getDrops().size()];
+        int missingCount = 0;
 
+        StringBuilder text = new StringBuilder(64);
         for (DropEntry drop : data.getDrops())
         {
             String rateStr = drop.getRarityDisplay() != null
@@ -415,10 +440,11 @@ public class DroppyPlugin extends Plugin
                 int dropKc = playerDataManager.getItemDropKc(kcName, drop.getItemName());
                 if (dropKc > 0)
                 {
-                    double chanceAtDrop = DropChanceCalculator.calculateChance(drop.getDropRate(), dropKc);
-                    obtainedParts.add(drop.getItemName() + " " + rateStr
-                        + " at " + String.format("%,d", dropKc) + " kc "
-                        + DropChanceCalculator.formatPercent(chanceAtDrop));
+                    text.setLength(0);
+                    text.append(drop.getItemName()).append(' ').append(rateStr).append(" at ");
+                    DropChanceCalculator.appendCount(text, dropKc).append(" kc ");
+                    DropChanceCalculator.appendPercent(text, drop.chanceAt(dropKc));
+                    obtainedParts.add(text.toString());
                 }
                 else
                 {
@@ -428,11 +454,16 @@ public class DroppyPlugin extends Plugin
             else
             {
                 int kc = playerDataManager.getKcSinceLastDrop(kcName, drop.getItemName());
-                double chance = DropChanceCalculator.calculateChance(drop.getDropRate(), kc);
+                if (drop.getDropRate() > 0)
+                {
+                    missing[missingCount++] = drop.getLog1mRate();
+                }
 
-                dryParts.add(drop.getItemName() + " " + rateStr
-                    + " — " + String.format("%,d", kc) + " dry "
-                    + DropChanceCalculator.formatPercent(chance));
+                text.setLength(0);
+                text.append(drop.getItemName()).append(' ').append(rateStr).append(" — ");
+                DropChanceCalculator.appendCount(text, kc).append(" dry ");
+                DropChanceCalculator.appendPercent(text, drop.chanceAt(kc));
+                dryParts.add(text.toString());
             }
         }
 
@@ -444,10 +475,19 @@ public class DroppyPlugin extends Plugin
             .append(ChatColorType.NORMAL)
             .append(" — ")
             .append(ChatColorType.HIGHLIGHT)
-            .append(String.format("%,d", totalKc) + " kc")
+            .append(DropChanceCalculator.formatCount(totalKc) + " kc")
             .append(ChatColorType.NORMAL)
             .append(" (" + obtainedParts.size() + "/" + total + " logged)");
 
+        // Ahead of the item lists so it survives the length cap
+        if (missingCount > 0)
+        {
+            double expected = CompletionCalculator.expectedKillsToComplete(missing, missingCount);
+            builder.append(" ~" + DropChanceCalculator.formatCount(Math.round(expected)) + " kc to finish, ")
+                .append(DropChanceCalculator.formatPercent(CompletionCalculator.chanceOfNewUnique(missing, missingCount)))
+                .append(" new unique next kill");
+        }
+
         if (!obtainedParts.isEmpty())
         {
             builder.append(" | ")
@@ -478,10 +518,52 @@ public class DroppyPlugin extends Plugin
         return response;
     }
 
+    private String buildDryTopResponse()
+    {
+        List<DrynessIndex.Entry> driest = drynessIndex.top(DRY_TOP_SIZE);
+        if (driest.isEmpty())
+        {
+            return null;
+        }
+
+        ChatMessageBuilder builder = new ChatMessageBuilder();
+        builder.append(ChatColorType.HIGHLIGHT)
+            .append("Driest items")
+            .append(ChatColorType.NORMAL);
+
+        for (DrynessIndex.Entry entry : driest)
+        {
+            DropEntry drop = entry.getDrop();
+            String rateStr = drop.getRarityDisplay() != null
+                ? drop.getRarityDisplay()
+                : DropChanceCalculator.formatDropRate(drop.getDropRate());
+
+            builder.append(" | ")
+                .append(ChatColorType.HIGHLIGHT)
+                .append(drop.getItemName() + " " + rateStr)
+                .append(ChatColorType.NORMAL)
+                .append(" (" + entry.getMonsterName() + ") — " + DropChanceCalculator.formatCount(entry.getKc()) + " dry "
+                    + DropChanceCalculator.formatPercent(entry.getChance()));
+        }
+
+        String response = builder.build();
+        if (response.length() > 490)
+        {
+            response = response.substring(0, 487) + "...";
+        }
+        return response;
+    }
+
     private boolean dryInput(ChatInput chatInput, String message)
     {
         String monsterName = message.substring(DRY_COMMAND.length()).trim();
 
+        // Account-wide summaries aren't shared with the API
+        if (monsterName.equalsIgnoreCase(DRY_TOP_ARGUMENT))
+        {
+            return false;
+        }
+
         if (monsterName.isEmpty())
         {
             monsterName = killCountManager.getLastKcMonster();
@@ -491,7 +573,7 @@ public class DroppyPlugin extends Plugin
             }
         }
 
-        String response = buildDryResponse(monsterName);
+        String response = getDryResponse(monsterName);
         if (response == null)
         {
             return false;
@@ -533,7 +615,11 @@ public class DroppyPlugin extends Plugin
 
         String response;
 
-        if (isLocalPlayer)
+        if (isLocalPlayer && monsterName.equalsIgnoreCase(DRY_TOP_ARGUMENT))
+        {
+            response = getDryResponse(DRY_TOP_ARGUMENT);
+        }
+        else if (isLocalPlayer)
         {
             if (monsterName.isEmpty())
             {
@@ -543,7 +629,7 @@ public class DroppyPlugin extends Plugin
                     return;
                 }
             }
-            response = buildDryResponse(monsterName);
+            response = getDryResponse(monsterName);
         }
         else
         {
@@ -566,14 +652,14 @@ public class DroppyPlugin extends Plugin
             client.refreshChat();
         });
 
-        if (isLocalPlayer)
+        if (isLocalPlayer && !monsterName.equalsIgnoreCase(DRY_TOP_ARGUMENT))
         {
             MonsterDropData data = wikiDropFetcher.getDropData(
                 monsterName.isEmpty() ? killCountManager.getLastKcMonster() : monsterName);
             if (data != null)
             {
                 String displayName = data.getMonsterName();
-                SwingUtilities.invokeLater(() -> panel.setCurrentMonster(displayName));
+                panelRefresh.setCurrentMonster(displayName);
             }
         }
     }
@@ -587,6 +673,65 @@ public class DroppyPlugin extends Plugin
         collectionLogImporter.tryImport(client.getLocalPlayer().getName());
     }
 
+    // Client thread only. Warms the most-killed monsters' item compositions, icons and
+    // drop list views in the background so the panel's first switch to them is instant.
+    private void prewarm()
+    {
+        if (prewarmed)
+        {
+            return;
+        }
+        prewarmed = true;
+
+        List<String> monsters = new ArrayList<>();
+        for (String monster : playerDataManager.getTrackedMonsters())
+        {
+            if (wikiDropFetcher.getDropData(monster) != null)
+            {
+                monsters.add(monster);
+            }
+        }
+        monsters.sort(Comparator.comparingInt((String monster) -> playerDataManager.getKillCount(monster)).reversed());
+        if (monsters.size() > PREWARM_MONSTERS)
+        {
+            monsters = new ArrayList<>(monsters.subList(0, PREWARM_MONSTERS));
+        }
+
+        clientTaskScheduler.submitLowPriority("prewarm", new PrewarmTask(monsters, wikiDropFetcher,
+            playerDataManager, itemNameCache, panel::prewarm));
+    }
+
+    private void importLootHistory()
+    {
+        if (playerDataManager.isLootHistoryImported())
+        {
+            return;
+        }
+
+        // Read on the executor, applied on the client thread alongside kill tracking
+        executor.execute(() ->
+        {
+            try
+            {
+                LootHistoryImporter.History history = lootHistoryImporter.readHistory();
+                if (history != null)
+                {
+                    clientThread.invokeLater(() ->
+                    {
+                        if (lootHistoryImporter.apply(history))
+                        {
+                            playerDataManager.savePlayerData();
+                        }
+                    });
+                }
+            }
+            catch (Exception e)
+            {
+                log.warn("Failed to import loot tracker history: {}", e.getMessage());
+            }
+        });
+    }
+
     private BufferedImage createPluginIcon()
     {
         // Pixelated sand pile icon (because dry)
@@ -631,4 +776,11 @@ public class DroppyPlugin extends Plugin
 
         return icon;
     }
+
+    @Value
+    private static class DryResponse
+    {
+        long version;
+        String text;
+    }
 }
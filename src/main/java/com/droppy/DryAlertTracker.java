@@ -0,0 +1,208 @@
+package com.droppy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Works out when a kill takes an unobtained drop past 50/90/99% cumulative chance or 2x/3x
+ * its expected KC. Every crossing is precomputed as an absolute KC with one batch
+ * killsForProbability per threshold, so a kill only compares the monster's KC against its
+ * next crossing.
+ */
+public class DryAlertTracker
+{
+    private static final double[] CHANCE_THRESHOLDS = {0.5, 0.9, 0.99};
+    private static final int[] EXPECTED_MULTIPLES = {2, 3};
+
+    private final WikiDropFetcher wikiDropFetcher;
+    private final PlayerDataManager playerDataManager;
+    // Member monster -> shared clog page, both normalized
+    private final Map<String, String> pageGroups = new HashMap<>();
+
+    // Guarded by this; monsters are added on their first kill of the session
+    private final Map<String, MonsterAlerts> monsters = new HashMap<>();
+
+    public DryAlertTracker(WikiDropFetcher wikiDropFetcher, PlayerDataManager playerDataManager)
+    {
+        this.wikiDropFetcher = wikiDropFetcher;
+        this.playerDataManager = playerDataManager;
+        wikiDropFetcher.getPageGroups().forEach((member, page) ->
+            pageGroups.put(member.toLowerCase().trim(), page.toLowerCase().trim()));
+    }
+
+    // PlayerDataManager listener. An obtained change moves drop KCs and removes items, so
+    // crossings are recomputed from the next kill on.
+    public synchronized void onPlayerDataChanged(PlayerDataEvent event)
+    {
+        if (event.getType() == PlayerDataEvent.Type.ITEM_OBTAINED
+            || event.getType() == PlayerDataEvent.Type.RELOADED)
+        {
+            monsters.clear();
+        }
+    }
+
+    // Call after the kills have been counted. Returns one message per drop that crossed a
+    // threshold; when several were crossed at once only the highest is reported.
+    public synchronized List<String> onKills(String monsterName, int kills)
+    {
+        String key = monsterName.toLowerCase().trim();
+        key = pageGroups.getOrDefault(key, key);
+
+        int totalKc = playerDataManager.getKillCount(key);
+        MonsterAlerts alerts = monsters.get(key);
+        if (alerts == null)
+        {
+            alerts = build(key, totalKc - kills);
+            monsters.put(key, alerts);
+        }
+
+        if (totalKc < alerts.nextKc)
+        {
+            return List.of();
+        }
+
+        List<String> messages = new ArrayList<>();
+        for (ItemAlerts item : alerts.items)
+        {
+            int crossed = -1;
+            while (item.next < item.kcs.length && item.kcs[item.next] <= totalKc)
+            {
+                crossed = item.next++;
+            }
+
+            if (crossed >= 0)
+            {
+                messages.add(item.itemName + " (" + alerts.monsterName + "): " + item.labels[crossed]
+                    + ", " + DropChanceCalculator.formatCount(totalKc - item.baseKc) + " kc dry");
+            }
+        }
+        alerts.updateNextKc();
+        return messages;
+    }
+
+    // Crossings at or below fromKc are treated as already passed
+    private MonsterAlerts build(String monsterKey, int fromKc)
+    {
+        MonsterDropData data = wikiDropFetcher.getDropData(monsterKey);
+        if (data == null)
+        {
+            return new MonsterAlerts(monsterKey, List.of());
+        }
+
+        List<DropEntry> missing = new ArrayList<>();
+        for (DropEntry drop : data.getDrops())
+        {
+            double rate = drop.getDropRate();
+            if (rate > 0 && rate < 1.0 && !playerDataManager.hasItem(drop.getItemName()))
+            {
+                missing.add(drop);
+            }
+        }
+
+        double[] log1mRates = new double[missing.size()];
+        for (int i = 0; i < log1mRates.length; i++)
+        {
+            log1mRates[i] = missing.get(i).getLog1mRate();
+        }
+        int[][] chanceKills = new int[CHANCE_THRESHOLDS.length][log1mRates.length];
+        for (int t = 0; t < CHANCE_THRESHOLDS.length; t++)
+        {
+            DropChanceCalculator.killsForProbability(log1mRates, CHANCE_THRESHOLDS[t], chanceKills[t]);
+        }
+
+        int totalKc = playerDataManager.getKillCount(monsterKey);
+        List<ItemAlerts> items = new ArrayList<>();
+        for (int i = 0; i < log1mRates.length; i++)
+        {
+            DropEntry drop = missing.get(i);
+            double rate = drop.getDropRate();
+
+            // KC the dry streak started at, so crossings can be stored as absolute KCs
+            int baseKc = totalKc - playerDataManager.getKcSinceLastDrop(monsterKey, drop.getItemName());
+            List<Crossing> crossings = new ArrayList<>();
+            for (int t = 0; t < CHANCE_THRESHOLDS.length; t++)
+            {
+                crossings.add(new Crossing(baseKc + chanceKills[t][i],
+                    Math.round(CHANCE_THRESHOLDS[t] * 100) + "% chance by now"));
+            }
+            for (int multiple : EXPECTED_MULTIPLES)
+            {
+                crossings.add(new Crossing(baseKc + (int) Math.ceil(multiple / rate),
+                    multiple + "x the expected KC"));
+            }
+
+            crossings.removeIf(crossing -> crossing.kc <= fromKc);
+            if (!crossings.isEmpty())
+            {
+                crossings.sort(Comparator.comparingInt(crossing -> crossing.kc));
+                items.add(new ItemAlerts(drop.getItemName(), baseKc, crossings));
+            }
+        }
+
+        return new MonsterAlerts(data.getMonsterName(), items);
+    }
+
+    private static class MonsterAlerts
+    {
+        private final String monsterName;
+        private final List<ItemAlerts> items;
+        // Lowest KC at which any item crosses its next threshold
+        private int nextKc;
+
+        private MonsterAlerts(String monsterName, List<ItemAlerts> items)
+        {
+            this.monsterName = monsterName;
+            this.items = items;
+            updateNextKc();
+        }
+
+        private void updateNextKc()
+        {
+            nextKc = Integer.MAX_VALUE;
+            for (ItemAlerts item : items)
+            {
+                if (item.next < item.kcs.length)
+                {
+                    nextKc = Math.min(nextKc, item.kcs[item.next]);
+                }
+            }
+        }
+    }
+
+    private static class ItemAlerts
+    {
+        private final String itemName;
+        private final int baseKc;
+        private final int[] kcs;
+        private final String[] labels;
+        private int next;
+
+        private ItemAlerts(String itemName, int baseKc, List<Crossing> crossings)
+        {
+            this.itemName = itemName;
+            this.baseKc = baseKc;
+            this.kcs = new int[crossings.size()];
+            this.labels = new String[crossings.size()];
+            for (int i = 0; i < crossings.size(); i++)
+            {
+                kcs[i] = crossings.get(i).kc;
+                labels[i] = crossings.get(i).label;
+            }
+        }
+    }
+
+    private static class Crossing
+    {
+        private final int kc;
+        private final String label;
+
+        private Crossing(int kc, String label)
+        {
+            this.kc = kc;
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.droppy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import lombok.Value;
+
+/**
+ * Every unobtained collection log drop of every tracked monster, ordered by how likely it
+ * was to have dropped by now. Kept up to date from player data events, touching only the
+ * affected monster's entries, so the driest items can be read off the front in O(K).
+ * Group members (e.g. the individual Dagannoth Kings) are skipped since their drops are
+ * indexed under the shared page. Full rebuilds (login, profile load) run on the executor.
+ */
+public class DrynessIndex
+{
+    private static final Comparator<Entry> DRIEST_FIRST = Comparator
+        .comparingDouble(Entry::getChance).reversed()
+        .thenComparing(Entry::getMonsterKey)
+        .thenComparing(Entry::getItemName);
+
+    private final WikiDropFetcher wikiDropFetcher;
+    private final PlayerDataManager playerDataManager;
+    private final Executor executor;
+    private final Set<String> groupMembers = new HashSet<>();
+
+    // Guarded by this
+    private final TreeSet<Entry> entries = new TreeSet<>(DRIEST_FIRST);
+    private final Map<String, List<Entry>> entriesByMonster = new HashMap<>();
+    // Canonical item name -> indexed monsters that drop it, obtained or not. Drop tables
+    // don't change, so monsters are only added; a stale one just gets a no-op re-score.
+    private final Map<String, Set<String>> monstersByItem = new HashMap<>();
+
+    public DrynessIndex(WikiDropFetcher wikiDropFetcher, PlayerDataManager playerDataManager, Executor executor)
+    {
+        this.wikiDropFetcher = wikiDropFetcher;
+        this.playerDataManager = playerDataManager;
+        this.executor = executor;
+        for (String member : wikiDropFetcher.getPageGroups().keySet())
+        {
+            groupMembers.add(member.toLowerCase().trim());
+        }
+    }
+
+    // PlayerDataManager listener
+    public void onPlayerDataChanged(PlayerDataEvent event)
+    {
+        switch (event.getType())
+        {
+            case KILL_COUNT:
+                update(event.getMonster());
+                break;
+            case ITEM_OBTAINED:
+                if (event.getMonster() != null)
+                {
+                    update(event.getMonster());
+                }
+                updateItem(event.getItem());
+                break;
+            case RELOADED:
+                // Rescans every tracked monster, so keep it off the thread that loaded the
+                // data. The panel builds views on the same executor, so the overview that
+                // this event refreshes is built after the rebuild.
+                executor.execute(this::rebuild);
+                break;
+            default:
+                break;
+        }
+    }
+
+    public synchronized void rebuild()
+    {
+        entries.clear();
+        entriesByMonster.clear();
+        monstersByItem.clear();
+        for (String monsterKey : playerDataManager.getTrackedMonsters())
+        {
+            update(monsterKey);
+        }
+    }
+
+    // Re-scores one monster's unobtained drops
+    public synchronized void update(String monsterKey)
+    {
+        List<Entry> previous = entriesByMonster.remove(monsterKey);
+        if (previous != null)
+        {
+            entries.removeAll(previous);
+        }
+
+        if (groupMembers.contains(monsterKey))
+        {
+            return;
+        }
+
+        MonsterDropData data = wikiDropFetcher.getDropData(monsterKey);
+        if (data == null || playerDataManager.getKillCount(monsterKey) <= 0)
+        {
+            return;
+        }
+
+        List<Entry> monsterEntries = new ArrayList<>();
+        for (DropEntry drop : data.getDrops())
+        {
+            if (drop.getDropRate() <= 0)
+            {
+                continue;
+            }
+
+            // Indexed even when obtained, so un-marking it brings this monster's entry back
+            monstersByItem.computeIfAbsent(drop.getCanonicalName(), k -> new HashSet<>()).add(monsterKey);
+            if (playerDataManager.hasItem(drop.getItemName()))
+            {
+                continue;
+            }
+
+            int kc = playerDataManager.getKcSinceLastDrop(monsterKey, drop.getItemName());
+            monsterEntries.add(new Entry(monsterKey, data.getMonsterName(), drop, kc,
+                drop.chanceAt(kc)));
+        }
+
+        entriesByMonster.put(monsterKey, monsterEntries);
+        entries.addAll(monsterEntries);
+    }
+
+    // Obtained is account-wide, so re-score every indexed monster that drops the item
+    private synchronized void updateItem(String itemKey)
+    {
+        Set<String> monsters = monstersByItem.get(itemKey);
+        if (monsters == null)
+        {
+            return;
+        }
+
+        // update() adds to these sets, so iterate over a copy
+        for (String monsterKey : new ArrayList<>(monsters))
+        {
+            update(monsterKey);
+        }
+    }
+
+    public synchronized List<Entry> top(int k)
+    {
+        List<Entry> top = new ArrayList<>(Math.min(k, entries.size()));
+        Iterator<Entry> it = entries.iterator();
+        while (top.size() < k && it.hasNext())
+        {
+            top.add(it.next());
+        }
+        return top;
+    }
+
+    @Value
+    public static class Entry
+    {
+        String monsterKey;
+        String monsterName;
+        DropEntry drop;
+        int kc;
+        double chance;
+
+        public String getItemName()
+        {
+            return drop.getItemName();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.droppy;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.util.AsyncBufferedImage;
+
+/**
+ * Drop list icons: item images keyed by ID (least recently used evicted past a fixed size)
+ * and one shared placeholder per starting letter for items without a known ID.
+ */
+public class ItemIconCache
+{
+    private static final int MAX_ICONS = 256;
+    private static final int ICON_SIZE = 32;
+    private static final Color PLACEHOLDER_BG = new Color(60, 60, 60);
+    private static final Font PLACEHOLDER_FONT = new Font("Arial", Font.BOLD, 14);
+
+    private final ItemManager itemManager;
+    private final Runnable onIconLoaded;
+
+    private final Map<Integer, Image> icons = new LinkedHashMap<Integer, Image>(64, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Image> eldest)
+        {
+            return size() > MAX_ICONS;
+        }
+    };
+    private final Map<Character, Image> placeholders = new HashMap<>();
+
+    // onIconLoaded runs once per fetched icon when its pixels arrive, on any thread
+    public ItemIconCache(ItemManager itemManager, Runnable onIconLoaded)
+    {
+        this.itemManager = itemManager;
+        this.onIconLoaded = onIconLoaded;
+    }
+
+    // Falls back to the letter placeholder when the item ID is unknown
+    public synchronized Image getIcon(int itemId, String itemName)
+    {
+        if (itemId <= 0 || itemManager == null)
+        {
+            return getPlaceholder(itemName);
+        }
+
+        Image icon = icons.get(itemId);
+        if (icon == null)
+        {
+            AsyncBufferedImage image = itemManager.getImage(itemId);
+            if (image == null)
+            {
+                return getPlaceholder(itemName);
+            }
+
+            image.onLoaded(onIconLoaded);
+            icons.put(itemId, image);
+            icon = image;
+        }
+        return icon;
+    }
+
+    private Image getPlaceholder(String itemName)
+    {
+        char letter = itemName == null || itemName.isEmpty() ? '?' : Character.toUpperCase(itemName.charAt(0));
+        return placeholders.computeIfAbsent(letter, ItemIconCache::drawPlaceholder);
+    }
+
+    private static Image drawPlaceholder(char letter)
+    {
+        BufferedImage placeholder = new BufferedImage(ICON_SIZE, ICON_SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = placeholder.createGraphics();
+        g.setColor(PLACEHOLDER_BG);
+        g.fillRoundRect(0, 0, ICON_SIZE, ICON_SIZE, 6, 6);
+        g.setColor(Color.GRAY);
+        g.setFont(PLACEHOLDER_FONT);
+        g.drawString(String.valueOf(letter), 10, 22);
+        g.dispose();
+        return placeholder;
+    }
+
+    public synchronized void clear()
+    {
+        icons.clear();
+    }
+}
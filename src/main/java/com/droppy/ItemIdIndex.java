@@ -0,0 +1,106 @@
+package com.droppy;
+
+import java.util.Arrays;
+
+/**
+ * Item ID -> index into a drop table, over primitive arrays. Also remembers IDs known not
+ * to be in the table, so every looted item ID costs one probe once it has been seen.
+ */
+public class ItemIdIndex
+{
+    // Returned for IDs that are known not to be a drop
+    public static final int NOT_A_DROP = -1;
+    // Returned for IDs that haven't been resolved yet
+    public static final int UNKNOWN = -2;
+
+    private static final int INITIAL_CAPACITY = 32;
+    private static final int EMPTY = -1;
+
+    // IDs are never negative so -1 marks a free slot
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    public ItemIdIndex()
+    {
+        keys = new int[INITIAL_CAPACITY];
+        values = new int[INITIAL_CAPACITY];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public synchronized int get(int itemId)
+    {
+        if (itemId < 0)
+        {
+            return NOT_A_DROP;
+        }
+
+        int slot = find(itemId);
+        return keys[slot] == itemId ? values[slot] : UNKNOWN;
+    }
+
+    // Keeps the first mapping for an ID; dropIndex may be NOT_A_DROP
+    public synchronized void put(int itemId, int dropIndex)
+    {
+        if (itemId < 0)
+        {
+            return;
+        }
+
+        int slot = find(itemId);
+        if (keys[slot] == itemId)
+        {
+            // A later source (clog scrape, name resolution) may know better than a miss
+            if (values[slot] == NOT_A_DROP)
+            {
+                values[slot] = dropIndex;
+            }
+            return;
+        }
+
+        keys[slot] = itemId;
+        values[slot] = dropIndex;
+        size++;
+        if (size * 2 > keys.length)
+        {
+            rehash();
+        }
+    }
+
+    private int find(int itemId)
+    {
+        int mask = keys.length - 1;
+        int slot = mix(itemId) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != itemId)
+        {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash()
+    {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        Arrays.fill(keys, EMPTY);
+
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (oldKeys[i] != EMPTY)
+            {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(int key)
+    {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,139 @@
+package com.droppy;
+
+import java.util.Arrays;
+import net.runelite.api.ItemComposition;
+import net.runelite.client.game.ItemManager;
+
+/**
+ * Item ID -> canonical (lowercased, trimmed) item name. Shared by loot matching and the
+ * collection log scraper so each item composition is looked up and normalized once.
+ */
+public class ItemNameCache
+{
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int EMPTY = -1;
+
+    private final ItemManager itemManager;
+
+    // Open addressing over primitive keys; IDs are never negative so -1 marks a free slot
+    private int[] keys;
+    private String[] names;
+    private int size;
+
+    public ItemNameCache(ItemManager itemManager)
+    {
+        this.itemManager = itemManager;
+        this.keys = new int[INITIAL_CAPACITY];
+        this.names = new String[INITIAL_CAPACITY];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public static String canonicalize(String name)
+    {
+        return name == null ? "" : name.toLowerCase().trim();
+    }
+
+    // Must be called on the client thread; resolves the item composition on a miss.
+    // Returns null for unknown or unnamed items.
+    public synchronized String getName(int itemId)
+    {
+        if (itemId < 0)
+        {
+            return null;
+        }
+
+        int slot = find(itemId);
+        if (keys[slot] == itemId)
+        {
+            return emptyToNull(names[slot]);
+        }
+
+        String name = "";
+        try
+        {
+            ItemComposition composition = itemManager.getItemComposition(itemId);
+            if (composition != null)
+            {
+                name = canonicalize(composition.getName());
+            }
+        }
+        catch (Exception ignored)
+        {
+        }
+
+        // Unnamed items are cached as "" so they are not resolved again
+        insert(slot, itemId, name);
+        return emptyToNull(name);
+    }
+
+    // Safe from any thread; never touches the item manager.
+    public synchronized String getCachedName(int itemId)
+    {
+        if (itemId < 0)
+        {
+            return null;
+        }
+
+        int slot = find(itemId);
+        return keys[slot] == itemId ? emptyToNull(names[slot]) : null;
+    }
+
+    public synchronized boolean contains(int itemId)
+    {
+        return itemId >= 0 && keys[find(itemId)] == itemId;
+    }
+
+    private int find(int itemId)
+    {
+        int mask = keys.length - 1;
+        int slot = mix(itemId) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != itemId)
+        {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void insert(int slot, int itemId, String name)
+    {
+        keys[slot] = itemId;
+        names[slot] = name;
+        size++;
+
+        if (size * 2 > keys.length)
+        {
+            rehash();
+        }
+    }
+
+    private void rehash()
+    {
+        int[] oldKeys = keys;
+        String[] oldNames = names;
+
+        keys = new int[oldKeys.length * 2];
+        names = new String[oldNames.length * 2];
+        Arrays.fill(keys, EMPTY);
+
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (oldKeys[i] != EMPTY)
+            {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                names[slot] = oldNames[i];
+            }
+        }
+    }
+
+    private static int mix(int key)
+    {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static String emptyToNull(String name)
+    {
+        return name == null || name.isEmpty() ? null : name;
+    }
+}
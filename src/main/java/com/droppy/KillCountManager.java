@@ -205,6 +205,12 @@ public class KillCountManager
     }
 
     public void handleLootReceived(String sourceName)
+    {
+        handleLootReceived(sourceName, 1);
+    }
+
+    // Applies several kills of the same source at once, e.g. a tick's worth of AoE loot
+    public void handleLootReceived(String sourceName, int kills)
     {
         lastKcMonster = sourceName;
 
@@ -212,12 +218,17 @@ public class KillCountManager
             && System.currentTimeMillis() - chatKcTimestamp < CHAT_KC_DEDUP_WINDOW_MS)
         {
             chatKcMonster = null;
+            kills--;
             log.debug("KC increment skipped for {} (chat already set)", sourceName);
+        }
+
+        if (kills <= 0)
+        {
             return;
         }
 
-        playerDataManager.incrementKillCount(sourceName);
-        log.debug("KC incremented from loot: {} = {}", sourceName,
+        playerDataManager.incrementKillCount(sourceName, kills);
+        log.debug("KC incremented from loot: {} +{} = {}", sourceName, kills,
             playerDataManager.getKillCount(sourceName));
     }
 
@@ -0,0 +1,60 @@
+package com.droppy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import net.runelite.client.game.ItemStack;
+
+/**
+ * Collects the loot events fired during one game tick. A burst of AoE kills collapses into
+ * one kill delta and one set of received item IDs per source.
+ */
+public class LootBatch
+{
+    private final Map<String, Source> sources = new LinkedHashMap<>();
+
+    public void add(String sourceName, Collection<ItemStack> items, boolean countKill)
+    {
+        Source source = sources.computeIfAbsent(sourceName, Source::new);
+        if (countKill)
+        {
+            source.kills++;
+        }
+
+        for (ItemStack item : items)
+        {
+            source.itemIds.add(item.getId());
+        }
+    }
+
+    public boolean isEmpty()
+    {
+        return sources.isEmpty();
+    }
+
+    // Sources in the order they first dropped loot this tick
+    public List<Source> drain()
+    {
+        List<Source> drained = new ArrayList<>(sources.values());
+        sources.clear();
+        return drained;
+    }
+
+    @Getter
+    public static class Source
+    {
+        private final String name;
+        private final Set<Integer> itemIds = new HashSet<>();
+        private int kills;
+
+        private Source(String name)
+        {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.droppy;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.config.ConfigManager;
+
+/**
+ * Reconstructs per-item drop KCs from the loot tracker's persisted records, for players
+ * who installed Droppy after they had already been killing things.
+ */
+@Slf4j
+public class LootHistoryImporter
+{
+    private static final String LOOT_TRACKER_GROUP = "loottracker";
+    private static final String RECORD_PREFIX = "drops_";
+
+    private final ConfigManager configManager;
+    private final WikiDropFetcher wikiDropFetcher;
+    private final PlayerDataManager playerDataManager;
+
+    public LootHistoryImporter(ConfigManager configManager, WikiDropFetcher wikiDropFetcher,
+                               PlayerDataManager playerDataManager)
+    {
+        this.configManager = configManager;
+        this.wikiDropFetcher = wikiDropFetcher;
+        this.playerDataManager = playerDataManager;
+    }
+
+    // Blocking; call from a background thread and hand the result to apply. Returns null if
+    // there is nothing to import.
+    public History readHistory()
+    {
+        if (!playerDataManager.isLoaded() || playerDataManager.isLootHistoryImported())
+        {
+            return null;
+        }
+
+        String profileKey = configManager.getRSProfileKey();
+        List<String> keys = configManager.getRSProfileConfigurationKeys(
+            LOOT_TRACKER_GROUP, profileKey, RECORD_PREFIX);
+        if (keys == null)
+        {
+            return null;
+        }
+
+        Map<String, Integer> killCounts = new HashMap<>();
+        Map<String, Map<String, Integer>> kcSinceDrop = new HashMap<>();
+        Map<Integer, Integer> quantities = new HashMap<>();
+
+        for (String key : keys)
+        {
+            String json = configManager.getRSProfileConfiguration(LOOT_TRACKER_GROUP, key);
+            if (json == null || json.isEmpty())
+            {
+                continue;
+            }
+
+            quantities.clear();
+            String sourceName;
+            int kills;
+            try (JsonReader reader = new JsonReader(new StringReader(json)))
+            {
+                LootRecord record = readRecord(reader, quantities);
+                sourceName = record.name;
+                kills = record.kills;
+            }
+            catch (IOException | IllegalStateException | NumberFormatException e)
+            {
+                log.debug("Could not read loot tracker record {}: {}", key, e.getMessage());
+                continue;
+            }
+
+            if (sourceName == null || kills <= 0)
+            {
+                continue;
+            }
+
+            MonsterDropData data = wikiDropFetcher.getDropData(sourceName);
+            if (data == null)
+            {
+                continue;
+            }
+
+            // Several records can share a source (e.g. by case or record type); key them the
+            // way player data is keyed so they combine
+            String sourceKey = sourceName.toLowerCase().trim();
+            killCounts.merge(sourceKey, kills, Math::max);
+
+            Map<String, Integer> items = kcSinceDrop.computeIfAbsent(sourceKey, k -> new HashMap<>());
+            for (DropEntry drop : data.getDrops())
+            {
+                int quantity = quantityOf(drop, quantities);
+                if (quantity <= 0)
+                {
+                    continue;
+                }
+
+                // With q drops spread over K kills, the last one is expected at K * q / (q + 1).
+                // Across records the most recent estimate wins.
+                items.merge(drop.getItemName(), (int) Math.round(kills / (quantity + 1.0)), Math::min);
+            }
+        }
+
+        return new History(profileKey, killCounts, kcSinceDrop);
+    }
+
+    // Client thread only, so no kill lands between reading a KC and writing it back. Drops
+    // history read for another profile. Returns true if anything was imported.
+    public boolean apply(History history)
+    {
+        if (!Objects.equals(history.getProfileKey(), configManager.getRSProfileKey())
+            || !playerDataManager.isLoaded() || playerDataManager.isLootHistoryImported())
+        {
+            log.debug("Discarding loot tracker history read for another profile");
+            return false;
+        }
+
+        int imported = playerDataManager.importLootHistory(history.getKillCounts(), history.getKcSinceDrop());
+        log.info("Imported loot tracker history: {} sources, {} item drop KCs",
+            history.getKillCounts().size(), imported);
+        return imported > 0;
+    }
+
+    private int quantityOf(DropEntry drop, Map<Integer, Integer> quantities)
+    {
+        int quantity = 0;
+        if (drop.getItemId() > 0)
+        {
+            quantity += quantities.getOrDefault(drop.getItemId(), 0);
+        }
+
+        int clogId = playerDataManager.getClogItemId(drop.getItemName());
+        if (clogId > 0 && clogId != drop.getItemId())
+        {
+            quantity += quantities.getOrDefault(clogId, 0);
+        }
+        return quantity;
+    }
+
+    // Loot tracker ConfigLoot: {"name": ..., "kills": N, "drops": [id, qty, id, qty, ...]}
+    private static LootRecord readRecord(JsonReader reader, Map<Integer, Integer> quantities) throws IOException
+    {
+        LootRecord record = new LootRecord();
+
+        reader.beginObject();
+        while (reader.hasNext())
+        {
+            String field = reader.nextName();
+            if (reader.peek() == JsonToken.NULL)
+            {
+                reader.skipValue();
+                continue;
+            }
+
+            switch (field)
+            {
+                case "name":
+                    record.name = reader.nextString();
+                    break;
+                case "kills":
+                    record.kills = reader.nextInt();
+                    break;
+                case "drops":
+                    reader.beginArray();
+                    while (reader.hasNext())
+                    {
+                        int id = reader.nextInt();
+                        int qty = reader.hasNext() ? reader.nextInt() : 0;
+                        quantities.merge(id, qty, Integer::sum);
+                    }
+                    reader.endArray();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        return record;
+    }
+
+    private static class LootRecord
+    {
+        private String name;
+        private int kills;
+    }
+
+    @Value
+    public static class History
+    {
+        // RS profile the records were read from
+        String profileKey;
+        Map<String, Integer> killCounts;
+        Map<String, Map<String, Integer>> kcSinceDrop;
+    }
+}
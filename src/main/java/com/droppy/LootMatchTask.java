@@ -0,0 +1,105 @@
+package com.droppy;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Matches a tick's loot against the collection log drop tables. Each looted item ID is one
+ * probe into the monster's item ID index; only IDs never seen before are resolved by name,
+ * a few per scheduler slice, and the answer is remembered for next time.
+ */
+@Slf4j
+public class LootMatchTask implements BooleanSupplier
+{
+    private static final int RESOLUTIONS_PER_SLICE = 32;
+
+    private final List<LootBatch.Source> sources;
+    private final WikiDropFetcher wikiDropFetcher;
+    private final PlayerDataManager playerDataManager;
+    private final ItemNameCache itemNameCache;
+
+    private boolean anyNew;
+
+    private int sourceIndex;
+    private MonsterDropData dropData;
+    private int[] itemIds;
+    private int itemIndex;
+
+    public LootMatchTask(List<LootBatch.Source> sources, WikiDropFetcher wikiDropFetcher,
+                         PlayerDataManager playerDataManager, ItemNameCache itemNameCache)
+    {
+        this.sources = sources;
+        this.wikiDropFetcher = wikiDropFetcher;
+        this.playerDataManager = playerDataManager;
+        this.itemNameCache = itemNameCache;
+    }
+
+    @Override
+    public boolean getAsBoolean()
+    {
+        int budget = RESOLUTIONS_PER_SLICE;
+        while (sourceIndex < sources.size())
+        {
+            LootBatch.Source source = sources.get(sourceIndex);
+            if (itemIds == null)
+            {
+                dropData = wikiDropFetcher.getDropData(source.getName());
+                if (dropData != null)
+                {
+                    dropData.addClogItemIds(playerDataManager::getClogItemId);
+                    itemIds = source.getItemIds().stream().mapToInt(Integer::intValue).toArray();
+                }
+                else
+                {
+                    itemIds = new int[0];
+                }
+                itemIndex = 0;
+            }
+
+            while (itemIndex < itemIds.length)
+            {
+                int itemId = itemIds[itemIndex];
+                int dropIndex = dropData.dropIndexOf(itemId);
+                if (dropIndex == ItemIdIndex.UNKNOWN)
+                {
+                    if (budget-- == 0)
+                    {
+                        return false;
+                    }
+
+                    // Variant IDs (noted, charged, etc.) share the drop's name
+                    dropIndex = dropData.dropIndexOfName(itemNameCache.getName(itemId));
+                    dropData.learnItemId(itemId, dropIndex);
+                }
+
+                if (dropIndex >= 0)
+                {
+                    recordDrop(source.getName(), dropData.getDrops().get(dropIndex));
+                }
+                itemIndex++;
+            }
+
+            itemIds = null;
+            sourceIndex++;
+        }
+
+        if (anyNew)
+        {
+            playerDataManager.savePlayerData();
+        }
+        return true;
+    }
+
+    private void recordDrop(String monsterName, DropEntry drop)
+    {
+        if (playerDataManager.hasItem(drop.getItemName()))
+        {
+            return;
+        }
+
+        playerDataManager.recordCollectionLogItem(drop.getItemName(), monsterName);
+        log.info("Collection log drop detected from loot: {} from {}", drop.getItemName(), monsterName);
+        anyNew = true;
+    }
+}
@@ -1,6 +1,8 @@
 package com.droppy;
 
 import java.util.List;
+import java.util.function.ToIntFunction;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 @Getter
@@ -10,10 +12,72 @@ public class MonsterDropData
     private final String wikiPage;
     private final List<DropEntry> drops;
 
+    // Wiki, clog-scraped and name-resolved item IDs -> index into drops
+    @Getter(AccessLevel.NONE)
+    private final ItemIdIndex itemIds = new ItemIdIndex();
+    @Getter(AccessLevel.NONE)
+    private volatile boolean clogIdsAdded;
+
     public MonsterDropData(String monsterName, String wikiPage, List<DropEntry> drops)
     {
         this.monsterName = monsterName;
         this.wikiPage = wikiPage;
         this.drops = List.copyOf(drops);
+
+        for (int i = 0; i < this.drops.size(); i++)
+        {
+            int itemId = this.drops.get(i).getItemId();
+            if (itemId > 0)
+            {
+                itemIds.put(itemId, i);
+            }
+        }
+    }
+
+    // Index into drops, ItemIdIndex.NOT_A_DROP, or ItemIdIndex.UNKNOWN if never resolved
+    public int dropIndexOf(int itemId)
+    {
+        return itemIds.get(itemId);
+    }
+
+    public void learnItemId(int itemId, int dropIndex)
+    {
+        itemIds.put(itemId, dropIndex);
+    }
+
+    // Index of the drop with this canonical (lowercased, trimmed) name, or NOT_A_DROP
+    public int dropIndexOfName(String canonicalName)
+    {
+        if (canonicalName != null)
+        {
+            for (int i = 0; i < drops.size(); i++)
+            {
+                if (drops.get(i).getCanonicalName().equals(canonicalName))
+                {
+                    return i;
+                }
+            }
+        }
+        return ItemIdIndex.NOT_A_DROP;
+    }
+
+    // Adds IDs the collection log scrape knows for drops the wiki has no ID for; only once
+    public void addClogItemIds(ToIntFunction<String> clogItemId)
+    {
+        if (clogIdsAdded)
+        {
+            return;
+        }
+        clogIdsAdded = true;
+
+        for (int i = 0; i < drops.size(); i++)
+        {
+            DropEntry drop = drops.get(i);
+            int itemId = drop.getItemId() <= 0 ? clogItemId.applyAsInt(drop.getItemName()) : -1;
+            if (itemId > 0)
+            {
+                itemIds.put(itemId, i);
+            }
+        }
     }
 }
@@ -0,0 +1,195 @@
+package com.droppy;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Coalesces panel refresh requests from any thread. Requests and player data events only
+ * mark regions, monsters and items dirty; the panel is rebuilt on the EDT at most once per
+ * region per frame, and only for tabs showing something that changed, so bursts of events
+ * (several target changes or kills in one tick) collapse into a single rebuild.
+ */
+public class PanelRefreshScheduler
+{
+    private static final int FRAME_MILLIS = 16;
+
+    public enum Region
+    {
+        CURRENT,
+        SEARCH,
+        OVERVIEW,
+        SYNC
+    }
+
+    private final DroppyPanel panel;
+    private final WikiDropFetcher wikiDropFetcher;
+    private final Timer timer;
+
+    // Guarded by this
+    private final EnumSet<Region> dirtyRegions = EnumSet.noneOf(Region.class);
+    private final Set<String> dirtyMonsters = new HashSet<>();
+    private final Set<String> dirtyItems = new HashSet<>();
+    private String pendingMonster;
+    private boolean reloaded;
+    private boolean scheduled;
+
+    public PanelRefreshScheduler(DroppyPanel panel, WikiDropFetcher wikiDropFetcher)
+    {
+        this.panel = panel;
+        this.wikiDropFetcher = wikiDropFetcher;
+        this.timer = new Timer(FRAME_MILLIS, e -> flush());
+        this.timer.setRepeats(false);
+    }
+
+    // Shows a monster in the current tab; the latest request in a frame wins
+    public synchronized void setCurrentMonster(String monsterName)
+    {
+        if (monsterName == null)
+        {
+            return;
+        }
+
+        pendingMonster = monsterName;
+        schedule();
+    }
+
+    // PlayerDataManager listener
+    public synchronized void onPlayerDataChanged(PlayerDataEvent event)
+    {
+        switch (event.getType())
+        {
+            case KILL_COUNT:
+                dirtyMonsters.add(event.getMonster());
+                dirtyRegions.add(Region.OVERVIEW);
+                break;
+            case ITEM_OBTAINED:
+                dirtyRegions.add(Region.OVERVIEW);
+                // Obtained is global, so any list containing the item is affected
+                dirtyItems.add(event.getItem());
+                if (event.getMonster() != null)
+                {
+                    dirtyMonsters.add(event.getMonster());
+                }
+                break;
+            case PAGE_SYNCED:
+                dirtyRegions.add(Region.SYNC);
+                break;
+            case RELOADED:
+                reloaded = true;
+                dirtyRegions.addAll(EnumSet.allOf(Region.class));
+                break;
+        }
+        schedule();
+    }
+
+    public synchronized void refresh(Region... regions)
+    {
+        for (Region region : regions)
+        {
+            dirtyRegions.add(region);
+        }
+        schedule();
+    }
+
+    public void stop()
+    {
+        SwingUtilities.invokeLater(timer::stop);
+    }
+
+    private void schedule()
+    {
+        if (!scheduled)
+        {
+            scheduled = true;
+            SwingUtilities.invokeLater(timer::restart);
+        }
+    }
+
+    private void flush()
+    {
+        Set<Region> regions;
+        Set<String> monsters;
+        Set<String> items;
+        String monster;
+        boolean wasReloaded;
+        synchronized (this)
+        {
+            wasReloaded = reloaded;
+            reloaded = false;
+            regions = EnumSet.copyOf(dirtyRegions);
+            monsters = new HashSet<>(dirtyMonsters);
+            items = new HashSet<>(dirtyItems);
+            monster = pendingMonster;
+            dirtyRegions.clear();
+            dirtyMonsters.clear();
+            dirtyItems.clear();
+            pendingMonster = null;
+            scheduled = false;
+        }
+
+        // Cached views belong to the data that was replaced, possibly another profile's
+        if (wasReloaded)
+        {
+            panel.clearViewCache();
+        }
+
+        boolean current = regions.contains(Region.CURRENT)
+            || isDirty(panel.getCurrentFightMonster(), monsters, items);
+        // Switching monster rebuilds the current tab already
+        if (monster != null && !monster.equals(panel.getCurrentFightMonster()))
+        {
+            panel.setCurrentMonster(monster);
+            current = false;
+        }
+
+        if (current)
+        {
+            panel.refreshCurrent();
+        }
+        if (regions.contains(Region.SEARCH) || isDirty(panel.getSearchedMonster(), monsters, items))
+        {
+            panel.refreshSearch();
+        }
+        if (regions.contains(Region.OVERVIEW))
+        {
+            panel.refreshOverview();
+        }
+        if (regions.contains(Region.SYNC))
+        {
+            panel.refreshSync();
+        }
+    }
+
+    private boolean isDirty(String shown, Set<String> monsters, Set<String> items)
+    {
+        if (shown == null)
+        {
+            return false;
+        }
+        if (monsters.contains(shown.toLowerCase().trim()))
+        {
+            return true;
+        }
+        if (items.isEmpty())
+        {
+            return false;
+        }
+
+        MonsterDropData data = wikiDropFetcher.getDropData(shown);
+        if (data == null)
+        {
+            return false;
+        }
+        for (DropEntry drop : data.getDrops())
+        {
+            if (items.contains(drop.getCanonicalName()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
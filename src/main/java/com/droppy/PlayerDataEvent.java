@@ -0,0 +1,27 @@
+package com.droppy;
+
+import lombok.Value;
+
+/**
+ * A change to tracked player data. Names are normalized (lowercased, trimmed) the same way
+ * PlayerDataManager keys them.
+ */
+@Value
+public class PlayerDataEvent
+{
+    public enum Type
+    {
+        // Kill count (and so KC since drop) of monster changed
+        KILL_COUNT,
+        // Obtained flag of item changed; monster is the source if known, else null
+        ITEM_OBTAINED,
+        // Collection log page monster was synced for the first time
+        PAGE_SYNCED,
+        // Everything may have changed, e.g. data was reloaded for another profile
+        RELOADED
+    }
+
+    Type type;
+    String monster;
+    String item;
+}
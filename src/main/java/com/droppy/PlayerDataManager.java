@@ -3,10 +3,16 @@ package com.droppy;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.config.ConfigManager;
 
@@ -20,6 +26,9 @@ public class PlayerDataManager
     private static final String OBTAINED_KEY = "obtainedItems";
     private static final String CLOG_SYNCED_KEY = "clogSyncedPages";
     private static final String CLOG_ITEMS_KEY = "clogItems";
+    private static final String LOOT_HISTORY_IMPORTED_KEY = "lootHistoryImported";
+    private static final String CLOG_IMPORT_STAMP_KEY = "clogImportStamp";
+    private static final String CLOG_PAGE_HASHES_KEY = "clogPageHashes";
 
     private final ConfigManager configManager;
     private final Gson gson;
@@ -30,9 +39,25 @@ public class PlayerDataManager
     private final Set<String> obtainedItems = ConcurrentHashMap.newKeySet();
     private final Set<String> syncedPages = ConcurrentHashMap.newKeySet();
     private final Map<String, Integer> clogItems = new ConcurrentHashMap<>();
+    // Collection Log plugin page name -> content hash as last imported, saved with the stamp
+    private final Map<String, Long> clogPageHashes = new ConcurrentHashMap<>();
+    // Member monster -> multi-monster clog page, both normalized
+    private final Map<String, String> pageGroups = new ConcurrentHashMap<>();
+
+    // Called on whichever thread made the change
+    private final List<Consumer<PlayerDataEvent>> listeners = new CopyOnWriteArrayList<>();
 
     private volatile boolean loaded = false;
     private volatile boolean dirty = false;
+    private volatile boolean lootHistoryImported = false;
+    private volatile String clogImportStamp;
+    // Bumped on every change event, so derived data can tell whether it is stale
+    private final AtomicLong stateVersion = new AtomicLong();
+    // Per reload, monster and item change counts, so caches of one monster's data survive
+    // changes to unrelated monsters. Only ever incremented, never cleared.
+    private final AtomicLong reloadVersion = new AtomicLong();
+    private final Map<String, Long> monsterVersions = new ConcurrentHashMap<>();
+    private final Map<String, Long> itemVersions = new ConcurrentHashMap<>();
 
     public PlayerDataManager(ConfigManager configManager, Gson gson)
     {
@@ -48,6 +73,7 @@ public class PlayerDataManager
         obtainedItems.clear();
         syncedPages.clear();
         clogItems.clear();
+        clogPageHashes.clear();
 
         loadMap(KC_KEY, killCounts);
         loadMap(KC_SINCE_DROP_KEY, kcSinceLastDrop);
@@ -55,21 +81,99 @@ public class PlayerDataManager
         loadSet(OBTAINED_KEY, obtainedItems);
         loadSet(CLOG_SYNCED_KEY, syncedPages);
         loadMap(CLOG_ITEMS_KEY, clogItems);
+        loadMap(CLOG_PAGE_HASHES_KEY, clogPageHashes, new TypeToken<Map<String, Long>>(){}.getType());
+        lootHistoryImported = Boolean.parseBoolean(
+            configManager.getRSProfileConfiguration(CONFIG_GROUP, LOOT_HISTORY_IMPORTED_KEY));
+        clogImportStamp = configManager.getRSProfileConfiguration(CONFIG_GROUP, CLOG_IMPORT_STAMP_KEY);
 
         loaded = true;
         dirty = false;
 
         log.debug("Loaded player data: {} kc entries, {} obtained items, {} synced pages",
             killCounts.size(), obtainedItems.size(), syncedPages.size());
+        fire(PlayerDataEvent.Type.RELOADED, null, null);
+    }
+
+    public void addListener(Consumer<PlayerDataEvent> listener)
+    {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<PlayerDataEvent> listener)
+    {
+        listeners.remove(listener);
+    }
+
+    public long getStateVersion()
+    {
+        return stateVersion.get();
     }
 
-    public void savePlayerData()
+    /**
+     * Changes whenever anything a single monster's drop list reads changes: a reload, the
+     * monster's KC or KC since drop, or the obtained flag of any of its drops. Obtained is
+     * account-wide, so an item shared by several monsters moves all of their versions.
+     */
+    public long getMonsterVersion(String monsterName, MonsterDropData data)
     {
-        if (!loaded || !dirty)
+        // A sum of counters that only grow changes whenever any one of them does
+        long version = reloadVersion.get() + monsterVersions.getOrDefault(normalize(monsterName), 0L);
+        if (data != null)
+        {
+            for (DropEntry drop : data.getDrops())
+            {
+                version += itemVersions.getOrDefault(drop.getCanonicalName(), 0L);
+            }
+        }
+        return version;
+    }
+
+    private void fire(PlayerDataEvent.Type type, String monsterKey, String itemKey)
+    {
+        stateVersion.incrementAndGet();
+        if (type == PlayerDataEvent.Type.RELOADED)
+        {
+            reloadVersion.incrementAndGet();
+        }
+        if (monsterKey != null)
+        {
+            monsterVersions.merge(monsterKey, 1L, Long::sum);
+        }
+        if (itemKey != null)
+        {
+            itemVersions.merge(itemKey, 1L, Long::sum);
+        }
+        if (listeners.isEmpty())
         {
             return;
         }
 
+        PlayerDataEvent event = new PlayerDataEvent(type, monsterKey, itemKey);
+        for (Consumer<PlayerDataEvent> listener : listeners)
+        {
+            try
+            {
+                listener.accept(event);
+            }
+            catch (Exception e)
+            {
+                log.warn("Player data listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    // Returns false if the data could not be saved
+    public boolean savePlayerData()
+    {
+        if (!loaded)
+        {
+            return false;
+        }
+        if (!dirty)
+        {
+            return true;
+        }
+
         try
         {
             configManager.setRSProfileConfiguration(CONFIG_GROUP, KC_KEY, gson.toJson(killCounts));
@@ -78,11 +182,28 @@ public class PlayerDataManager
             configManager.setRSProfileConfiguration(CONFIG_GROUP, OBTAINED_KEY, gson.toJson(obtainedItems));
             configManager.setRSProfileConfiguration(CONFIG_GROUP, CLOG_SYNCED_KEY, gson.toJson(syncedPages));
             configManager.setRSProfileConfiguration(CONFIG_GROUP, CLOG_ITEMS_KEY, gson.toJson(clogItems));
+            configManager.setRSProfileConfiguration(CONFIG_GROUP, LOOT_HISTORY_IMPORTED_KEY, lootHistoryImported);
+            if (clogImportStamp != null)
+            {
+                configManager.setRSProfileConfiguration(CONFIG_GROUP, CLOG_IMPORT_STAMP_KEY, clogImportStamp);
+                configManager.setRSProfileConfiguration(CONFIG_GROUP, CLOG_PAGE_HASHES_KEY, gson.toJson(clogPageHashes));
+            }
             dirty = false;
+            return true;
         }
         catch (Exception e)
         {
             log.error("Failed to save player data: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public void setPageGroups(Map<String, String> groups)
+    {
+        pageGroups.clear();
+        for (Map.Entry<String, String> entry : groups.entrySet())
+        {
+            pageGroups.put(normalize(entry.getKey()), normalize(entry.getValue()));
         }
     }
 
@@ -102,15 +223,47 @@ public class PlayerDataManager
             kcSinceLastDrop.put(key, kc);
         }
 
+        // A first import for a member is likely already part of a scraped page total
+        String pageKey = pageGroups.get(key);
+        if (pageKey != null && delta > 0 && (previousKc > 0 || !killCounts.containsKey(pageKey)))
+        {
+            addPageKills(pageKey, delta);
+        }
+
         dirty = true;
+        if (kc != previousKc)
+        {
+            fire(PlayerDataEvent.Type.KILL_COUNT, key, null);
+        }
     }
 
     public void incrementKillCount(String monsterName)
+    {
+        incrementKillCount(monsterName, 1);
+    }
+
+    public void incrementKillCount(String monsterName, int kills)
     {
         String key = normalize(monsterName);
-        killCounts.merge(key, 1, Integer::sum);
-        kcSinceLastDrop.merge(key, 1, Integer::sum);
+        killCounts.merge(key, kills, Integer::sum);
+        kcSinceLastDrop.merge(key, kills, Integer::sum);
+
+        String pageKey = pageGroups.get(key);
+        if (pageKey != null)
+        {
+            addPageKills(pageKey, kills);
+        }
+
         dirty = true;
+        fire(PlayerDataEvent.Type.KILL_COUNT, key, null);
+    }
+
+    // Page totals are kept up to date on every member kill, never summed on read
+    private void addPageKills(String pageKey, int kills)
+    {
+        killCounts.merge(pageKey, kills, Integer::sum);
+        kcSinceLastDrop.merge(pageKey, kills, Integer::sum);
+        fire(PlayerDataEvent.Type.KILL_COUNT, pageKey, null);
     }
 
     public int getKillCount(String monsterName)
@@ -150,21 +303,183 @@ public class PlayerDataManager
         String normalItem = normalize(itemName);
         obtainedItems.add(normalItem);
 
+        String monsterKey = null;
+        String pageKey = null;
         if (monsterName != null && !monsterName.isEmpty())
         {
-            String monsterKey = normalize(monsterName);
-            String itemKey = monsterKey + "_" + normalItem;
-            int currentKc = killCounts.getOrDefault(monsterKey, 0);
-            lastDropKc.put(itemKey, currentKc);
-            kcSinceLastDrop.put(monsterKey, 0);
+            monsterKey = normalize(monsterName);
+            recordDrop(monsterKey, normalItem);
+
+            // Page-level rows read the page total, so they need their own drop KC
+            pageKey = pageGroups.get(monsterKey);
+            if (pageKey != null)
+            {
+                recordDrop(pageKey, normalItem);
+            }
         }
 
         dirty = true;
+        fire(PlayerDataEvent.Type.ITEM_OBTAINED, monsterKey, normalItem);
+        if (pageKey != null)
+        {
+            fire(PlayerDataEvent.Type.ITEM_OBTAINED, pageKey, normalItem);
+        }
+    }
+
+    /**
+     * Applies estimated drop history in one pass. Existing per-item drop KCs always win over
+     * estimates; kill counts only grow. Returns the number of item drop KCs written. Client
+     * thread only: KCs are read and written back, so it must not race incrementKillCount.
+     */
+    public int importLootHistory(Map<String, Integer> monsterKcs, Map<String, Map<String, Integer>> kcSinceItemDrop)
+    {
+        Map<String, Integer> kcUpdates = new HashMap<>();
+        Map<String, Integer> dropKcUpdates = new HashMap<>();
+        Map<String, Integer> sinceUpdates = new HashMap<>();
+        Map<String, Integer> pageKills = new HashMap<>();
+        Set<String> newlyObtained = new HashSet<>();
+
+        for (Map.Entry<String, Integer> entry : monsterKcs.entrySet())
+        {
+            String monsterKey = normalize(entry.getKey());
+            int previousKc = killCounts.getOrDefault(monsterKey, 0);
+            int kc = Math.max(previousKc, entry.getValue());
+            kcUpdates.put(monsterKey, kc);
+
+            String pageKey = pageGroups.get(monsterKey);
+            if (pageKey != null && kc > previousKc && (previousKc > 0 || !killCounts.containsKey(pageKey)))
+            {
+                pageKills.merge(pageKey, kc - previousKc, Integer::sum);
+            }
+
+            Map<String, Integer> items = kcSinceItemDrop.get(entry.getKey());
+            if (items == null)
+            {
+                continue;
+            }
+
+            int minSince = kc;
+            for (Map.Entry<String, Integer> item : items.entrySet())
+            {
+                String normalItem = normalize(item.getKey());
+                String itemKey = monsterKey + "_" + normalItem;
+                int since = Math.min(kc, item.getValue());
+                minSince = Math.min(minSince, since);
+                newlyObtained.add(normalItem);
+
+                if (!lastDropKc.containsKey(itemKey))
+                {
+                    dropKcUpdates.put(itemKey, kc - since);
+                }
+            }
+
+            if (!items.isEmpty() && !kcSinceLastDrop.containsKey(monsterKey))
+            {
+                sinceUpdates.put(monsterKey, minSince);
+            }
+        }
+
+        killCounts.putAll(kcUpdates);
+        lastDropKc.putAll(dropKcUpdates);
+        kcSinceLastDrop.putAll(sinceUpdates);
+        pageKills.forEach(this::addPageKills);
+        obtainedItems.addAll(newlyObtained);
+        lootHistoryImported = true;
+        dirty = true;
+
+        kcUpdates.keySet().forEach(monsterKey -> fire(PlayerDataEvent.Type.KILL_COUNT, monsterKey, null));
+        newlyObtained.forEach(item -> fire(PlayerDataEvent.Type.ITEM_OBTAINED, null, item));
+        return dropKcUpdates.size();
+    }
+
+    /**
+     * Applies pages read from the Collection Log plugin in one pass and remembers which
+     * version of its file and pages they came from. Returns the number of items and KCs that changed.
+     */
+    public int importCollectionLog(List<CollectionLogImporter.Page> pages, String stamp)
+    {
+        Map<String, Integer> newClogItems = new HashMap<>();
+        Set<String> newlyObtained = new HashSet<>();
+        int changes = 0;
+
+        for (CollectionLogImporter.Page page : pages)
+        {
+            for (CollectionLogImporter.Item item : page.getItems())
+            {
+                String normalItem = normalize(item.getName());
+                if (item.getId() > 0 && !clogItems.containsKey(normalItem))
+                {
+                    newClogItems.putIfAbsent(normalItem, item.getId());
+                }
+
+                if (item.isObtained() && !obtainedItems.contains(normalItem) && newlyObtained.add(normalItem))
+                {
+                    changes++;
+                }
+            }
+
+            if (page.getKillCount() > getKillCount(page.getName()))
+            {
+                setKillCount(page.getName(), page.getKillCount());
+                changes++;
+            }
+        }
+
+        clogItems.putAll(newClogItems);
+        obtainedItems.addAll(newlyObtained);
+        List<String> newlySynced = new ArrayList<>();
+        for (CollectionLogImporter.Page page : pages)
+        {
+            String pageKey = normalize(page.getName());
+            if (syncedPages.add(pageKey))
+            {
+                newlySynced.add(pageKey);
+            }
+            clogPageHashes.put(page.getName(), page.getHash());
+        }
+        clogImportStamp = stamp;
+        dirty = true;
+
+        newlyObtained.forEach(item -> fire(PlayerDataEvent.Type.ITEM_OBTAINED, null, item));
+        newlySynced.forEach(pageKey -> fire(PlayerDataEvent.Type.PAGE_SYNCED, pageKey, null));
+        return changes;
+    }
+
+    public String getClogImportStamp()
+    {
+        return clogImportStamp;
+    }
+
+    // Hash of the page as last imported from the Collection Log plugin, or null
+    public Long getClogPageHash(String pageName)
+    {
+        return clogPageHashes.get(pageName);
+    }
+
+    public boolean isLootHistoryImported()
+    {
+        return lootHistoryImported;
+    }
+
+    public boolean isLoaded()
+    {
+        return loaded;
+    }
+
+    private void recordDrop(String monsterKey, String normalItem)
+    {
+        int currentKc = killCounts.getOrDefault(monsterKey, 0);
+        lastDropKc.put(monsterKey + "_" + normalItem, currentKc);
+        kcSinceLastDrop.put(monsterKey, 0);
     }
 
     public void markItemObtainedFromSync(String itemName)
     {
-        obtainedItems.add(normalize(itemName));
+        String normalItem = normalize(itemName);
+        if (obtainedItems.add(normalItem))
+        {
+            fire(PlayerDataEvent.Type.ITEM_OBTAINED, null, normalItem);
+        }
         dirty = true;
     }
 
@@ -177,13 +492,18 @@ public class PlayerDataManager
             {
                 dirty = true;
                 log.debug("Corrected: {} marked as not obtained (from widget)", itemName);
+                fire(PlayerDataEvent.Type.ITEM_OBTAINED, normalize(monsterName), normalItem);
             }
         }
     }
 
     public void markPageSynced(String pageName)
     {
-        syncedPages.add(normalize(pageName));
+        String pageKey = normalize(pageName);
+        if (syncedPages.add(pageKey))
+        {
+            fire(PlayerDataEvent.Type.PAGE_SYNCED, pageKey, null);
+        }
         dirty = true;
     }
 
@@ -258,14 +578,18 @@ public class PlayerDataManager
     }
 
     private void loadMap(String key, Map<String, Integer> target)
+    {
+        loadMap(key, target, new TypeToken<Map<String, Integer>>(){}.getType());
+    }
+
+    private <V> void loadMap(String key, Map<String, V> target, Type type)
     {
         String json = configManager.getRSProfileConfiguration(CONFIG_GROUP, key);
         if (json != null && !json.isEmpty())
         {
             try
             {
-                Type type = new TypeToken<Map<String, Integer>>(){}.getType();
-                Map<String, Integer> loaded = gson.fromJson(json, type);
+                Map<String, V> loaded = gson.fromJson(json, type);
                 if (loaded != null)
                 {
                     target.putAll(loaded);
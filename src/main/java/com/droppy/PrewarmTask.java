@@ -0,0 +1,76 @@
+package com.droppy;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Resolves the item compositions of a few monsters' drop tables ahead of time, a handful
+ * per scheduler slice, then hands each finished monster to onMonsterWarmed so its icons
+ * and drop list view can be built before the panel first shows it.
+ */
+public class PrewarmTask implements BooleanSupplier
+{
+    private static final int ITEMS_PER_SLICE = 8;
+
+    private final List<String> monsters;
+    private final WikiDropFetcher wikiDropFetcher;
+    private final PlayerDataManager playerDataManager;
+    private final ItemNameCache itemNameCache;
+    private final Consumer<String> onMonsterWarmed;
+
+    private int monsterIndex;
+    private List<DropEntry> drops;
+    private int dropIndex;
+
+    public PrewarmTask(List<String> monsters, WikiDropFetcher wikiDropFetcher,
+                       PlayerDataManager playerDataManager, ItemNameCache itemNameCache,
+                       Consumer<String> onMonsterWarmed)
+    {
+        this.monsters = monsters;
+        this.wikiDropFetcher = wikiDropFetcher;
+        this.playerDataManager = playerDataManager;
+        this.itemNameCache = itemNameCache;
+        this.onMonsterWarmed = onMonsterWarmed;
+    }
+
+    @Override
+    public boolean getAsBoolean()
+    {
+        if (monsterIndex >= monsters.size())
+        {
+            return true;
+        }
+
+        String monster = monsters.get(monsterIndex);
+        if (drops == null)
+        {
+            MonsterDropData data = wikiDropFetcher.getDropData(monster);
+            drops = data != null ? data.getDrops() : List.of();
+            dropIndex = 0;
+        }
+
+        int end = Math.min(dropIndex + ITEMS_PER_SLICE, drops.size());
+        for (; dropIndex < end; dropIndex++)
+        {
+            DropEntry drop = drops.get(dropIndex);
+            int itemId = drop.getItemId() > 0
+                ? drop.getItemId()
+                : playerDataManager.getClogItemId(drop.getItemName());
+            if (itemId > 0)
+            {
+                itemNameCache.getName(itemId);
+            }
+        }
+
+        if (dropIndex < drops.size())
+        {
+            return false;
+        }
+
+        onMonsterWarmed.accept(monster);
+        drops = null;
+        monsterIndex++;
+        return monsterIndex >= monsters.size();
+    }
+}
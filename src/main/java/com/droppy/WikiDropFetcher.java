@@ -6,6 +6,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +18,8 @@ public class WikiDropFetcher
 {
     private final Map<String, MonsterDropData> dropData = new ConcurrentHashMap<>();
     private final Map<String, String> aliases = new HashMap<>();
+    // Individual monster -> multi-monster clog page (e.g. Dagannoth Rex -> Dagannoth Kings)
+    private final Map<String, String> pageGroups = new HashMap<>();
 
     public WikiDropFetcher(Gson gson)
     {
@@ -45,6 +48,15 @@ public class WikiDropFetcher
                 }
             }
 
+            JsonObject groupObj = root.getAsJsonObject("groups");
+            if (groupObj != null)
+            {
+                for (Map.Entry<String, JsonElement> entry : groupObj.entrySet())
+                {
+                    pageGroups.put(entry.getKey(), entry.getValue().getAsString());
+                }
+            }
+
             JsonObject monstersObj = root.getAsJsonObject("monsters");
             if (monstersObj != null)
             {
@@ -77,8 +89,8 @@ public class WikiDropFetcher
                 }
             }
 
-            log.info("Loaded {} monsters and {} aliases from bundled drop data",
-                dropData.size(), aliases.size());
+            log.info("Loaded {} monsters, {} aliases and {} page groups from bundled drop data",
+                dropData.size(), aliases.size(), pageGroups.size());
         }
         catch (Exception e)
         {
@@ -168,6 +180,11 @@ public class WikiDropFetcher
     }
 
 
+    public Map<String, String> getPageGroups()
+    {
+        return Collections.unmodifiableMap(pageGroups);
+    }
+
     public java.util.Collection<MonsterDropData> getAllMonsterData()
     {
         return dropData.values();
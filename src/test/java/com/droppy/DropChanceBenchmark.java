@@ -0,0 +1,207 @@
+package com.droppy;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Compares ways of evaluating 1 - (1 - r)^N: the old Math.pow form, log1p/expm1 from the
+ * raw rate, expm1 over a precomputed log(1 - r) (what DropEntry does) and a dense per-drop
+ * table. Prints ns per evaluation and the worst relative error against a BigDecimal reference.
+ * Also times killsForProbability per drop against the batch form DryAlertTracker uses, one
+ * call per threshold over a monster's drops.
+ * Each variant is warmed up on its own and the median of its measured rounds is reported;
+ * this is a plain timing main rather than JMH, so treat the numbers as relative. The log-space
+ * forms are slower than Math.pow and are kept for precision, not speed.
+ */
+public class DropChanceBenchmark
+{
+    private static final int DROPS = 512;
+    private static final int MAX_KC = 20_000;
+    private static final int TABLE_SIZE = 4096;
+    private static final int EVALUATIONS = 4_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 7;
+    private static final int MONSTER_DROPS = 32;
+    private static final double[] THRESHOLDS = {0.5, 0.9, 0.99};
+    private static final int MONSTERS = EVALUATIONS / (MONSTER_DROPS * THRESHOLDS.length);
+
+    private static double[] rates;
+    private static double[] log1mRates;
+    private static double[][] tables;
+    private static int[] drops;
+    private static int[] kcs;
+
+    public static void main(String[] args)
+    {
+        setUp();
+        reportPrecision();
+
+        double sink = 0;
+        sink += time("Math.pow", DropChanceBenchmark::pow);
+        sink += time("log1p/expm1", DropChanceBenchmark::logSpace);
+        sink += time("precomputed log1m", DropChanceBenchmark::precomputed);
+        sink += time("dense table (kc < " + TABLE_SIZE + ")", DropChanceBenchmark::table);
+        sink += time("kills for p, per drop", DropChanceBenchmark::killsScalar);
+        sink += time("kills for p, batch", DropChanceBenchmark::killsBatch);
+        System.out.println("(sink " + sink + ")");
+        System.out.printf("Table memory: %,d bytes for %d drops%n", (long) DROPS * TABLE_SIZE * 8, DROPS);
+    }
+
+    private static void setUp()
+    {
+        Random random = new Random(42);
+        rates = new double[DROPS];
+        log1mRates = new double[DROPS];
+        tables = new double[DROPS][];
+        for (int i = 0; i < DROPS; i++)
+        {
+            // Log-uniform between 1/10 and 1/50,000, like real collection log rates
+            rates[i] = Math.exp(-Math.log(10) - random.nextDouble() * Math.log(5000));
+            log1mRates[i] = DropChanceCalculator.log1mRate(rates[i]);
+            tables[i] = new double[TABLE_SIZE];
+            for (int kc = 0; kc < TABLE_SIZE; kc++)
+            {
+                tables[i][kc] = DropChanceCalculator.chanceFromLog1m(log1mRates[i], kc);
+            }
+        }
+
+        drops = new int[EVALUATIONS];
+        kcs = new int[EVALUATIONS];
+        for (int i = 0; i < EVALUATIONS; i++)
+        {
+            drops[i] = random.nextInt(DROPS);
+            // Most lookups are for modest KCs, the tail reaches past the table
+            kcs[i] = random.nextInt(4) == 0 ? random.nextInt(MAX_KC) : random.nextInt(TABLE_SIZE);
+        }
+    }
+
+    private static double pow()
+    {
+        double sum = 0;
+        for (int i = 0; i < EVALUATIONS; i++)
+        {
+            sum += 1.0 - Math.pow(1.0 - rates[drops[i]], kcs[i]);
+        }
+        return sum;
+    }
+
+    private static double logSpace()
+    {
+        double sum = 0;
+        for (int i = 0; i < EVALUATIONS; i++)
+        {
+            sum += DropChanceCalculator.calculateChance(rates[drops[i]], kcs[i]);
+        }
+        return sum;
+    }
+
+    private static double precomputed()
+    {
+        double sum = 0;
+        for (int i = 0; i < EVALUATIONS; i++)
+        {
+            sum += DropChanceCalculator.chanceFromLog1m(log1mRates[drops[i]], kcs[i]);
+        }
+        return sum;
+    }
+
+    private static double table()
+    {
+        double sum = 0;
+        for (int i = 0; i < EVALUATIONS; i++)
+        {
+            int drop = drops[i];
+            int kc = kcs[i];
+            sum += kc < TABLE_SIZE ? tables[drop][kc] : DropChanceCalculator.chanceFromLog1m(log1mRates[drop], kc);
+        }
+        return sum;
+    }
+
+    private static double killsScalar()
+    {
+        double sum = 0;
+        for (int monster = 0; monster < MONSTERS; monster++)
+        {
+            int first = monster * MONSTER_DROPS;
+            for (int d = 0; d < MONSTER_DROPS; d++)
+            {
+                double rate = rates[(first + d) % DROPS];
+                for (double threshold : THRESHOLDS)
+                {
+                    sum += DropChanceCalculator.killsForProbability(rate, threshold);
+                }
+            }
+        }
+        return sum;
+    }
+
+    // Includes gathering the rates into an array, as the caller has to
+    private static double killsBatch()
+    {
+        double sum = 0;
+        double[] monsterRates = new double[MONSTER_DROPS];
+        int[] kills = new int[MONSTER_DROPS];
+        for (int monster = 0; monster < MONSTERS; monster++)
+        {
+            int first = monster * MONSTER_DROPS;
+            for (int d = 0; d < MONSTER_DROPS; d++)
+            {
+                monsterRates[d] = log1mRates[(first + d) % DROPS];
+            }
+            for (double threshold : THRESHOLDS)
+            {
+                DropChanceCalculator.killsForProbability(monsterRates, threshold, kills);
+                for (int kill : kills)
+                {
+                    sum += kill;
+                }
+            }
+        }
+        return sum;
+    }
+
+    private static double time(String name, DoubleSupplier body)
+    {
+        double result = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++)
+        {
+            result += body.getAsDouble();
+        }
+
+        long[] elapsed = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++)
+        {
+            long start = System.nanoTime();
+            result += body.getAsDouble();
+            elapsed[round] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        System.out.printf("%-28s %6.2f ns/op (median of %d)%n", name,
+            (double) elapsed[ROUNDS / 2] / EVALUATIONS, ROUNDS);
+        return result;
+    }
+
+    private static void reportPrecision()
+    {
+        double[] testRates = {1e-2, 1e-4, 1.0 / 5000, 1.0 / 32768, 1e-6, 1e-9};
+        int[] testKcs = {1, 10, 1000, 20_000};
+        MathContext context = new MathContext(60);
+
+        double worstPow = 0;
+        double worstLog = 0;
+        for (double rate : testRates)
+        {
+            for (int kc : testKcs)
+            {
+                BigDecimal miss = BigDecimal.ONE.subtract(new BigDecimal(rate), context).pow(kc, context);
+                double exact = BigDecimal.ONE.subtract(miss, context).doubleValue();
+                worstPow = Math.max(worstPow, Math.abs((1.0 - Math.pow(1.0 - rate, kc)) - exact) / exact);
+                worstLog = Math.max(worstLog, Math.abs(DropChanceCalculator.calculateChance(rate, kc) - exact) / exact);
+            }
+        }
+        System.out.printf("Worst relative error: Math.pow %.3e, log1p/expm1 %.3e%n", worstPow, worstLog);
+    }
+}
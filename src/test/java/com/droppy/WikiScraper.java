@@ -190,11 +190,54 @@ public class WikiScraper
     private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
     private Map<String, Integer> itemIdMapping = new HashMap<>();
 
+    private static final Path DROPS_JSON = Paths.get("src/main/resources/com/droppy/drops.json");
+
     public static void main(String[] args) throws Exception
     {
+        if (args.length > 0 && args[0].equals("--groups-only"))
+        {
+            new WikiScraper().updateGroups();
+            return;
+        }
         new WikiScraper().run();
     }
 
+    // Rewrites only the groups section of the bundled drops.json; needs no network
+    private void updateGroups() throws IOException
+    {
+        JsonObject root = new JsonParser().parse(Files.readString(DROPS_JSON)).getAsJsonObject();
+        JsonObject groups = buildGroups();
+        root.add("groups", groups);
+        Files.writeString(DROPS_JSON, gson.toJson(root));
+        System.out.println("Wrote " + groups.size() + " groups to " + DROPS_JSON.toAbsolutePath());
+    }
+
+    // Member monster -> clog page for every multi-monster page, so KC for each member rolls
+    // up into the page total. Taken from WIKI_PAGES alone: a member whose own wiki page has no
+    // drops still counts towards its page.
+    private JsonObject buildGroups()
+    {
+        JsonObject groups = new JsonObject();
+        for (String page : ALL_CLOG_PAGES)
+        {
+            List<String> wikiPages = WIKI_PAGES.getOrDefault(page, List.of(page));
+            if (wikiPages.size() < 2)
+            {
+                continue;
+            }
+
+            for (String wikiPage : wikiPages)
+            {
+                String key = normalizeName(wikiPage);
+                if (!key.equals(normalizeName(page)))
+                {
+                    groups.addProperty(key, normalizeName(page));
+                }
+            }
+        }
+        return groups;
+    }
+
     private void run() throws Exception
     {
         JsonObject root = new JsonObject();
@@ -321,8 +364,9 @@ public class WikiScraper
 
         root.add("monsters", monsters);
         root.add("aliases", aliases);
+        root.add("groups", buildGroups());
 
-        Path output = Paths.get("src/main/resources/com/droppy/drops.json");
+        Path output = DROPS_JSON;
         Files.createDirectories(output.getParent());
         Files.writeString(output, gson.toJson(root));
 